@@ -5,13 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideUpdateRequestDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeBatchRequestDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeResultDto;
+import yeonjae.snapguide.controller.guideController.guideDto.SliceResponse;
 import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.domain.member.Member;
+import yeonjae.snapguide.infrastructure.cache.member.MemberIdCache;
 import yeonjae.snapguide.repository.memberRepository.MemberRepository;
 import yeonjae.snapguide.service.guideSerivce.GuideService;
 import yeonjae.snapguide.service.mediaSerivce.MediaService;
@@ -30,6 +33,7 @@ public class GuideController {
     private final GuideService guideService;
     private final MediaService mediaService;
     private final MemberRepository memberRepository;
+    private final MemberIdCache memberIdCache;
     /**
      * 통합 API: 파일 업로드 + Guide 생성 + Media 연결을 한 번에 처리
      * - 원본만 빠르게 업로드 (동기)
@@ -51,10 +55,8 @@ public class GuideController {
             throw new IllegalArgumentException("사진 또는 팁 중 하나는 필수입니다.");
         }
 
-        // 2. 사용자 조회
-        String email = userDetails.getUsername();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("no member : " + email));
+        // 2. 사용자 조회 (id만 캐시에서, 작성자 연결은 프록시로 → Member SELECT 없음)
+        Member member = memberRepository.getReferenceById(memberIdCache.getMemberId(userDetails.getUsername()));
 
         // 3. 파일 업로드 + Media 엔티티 생성 (비동기 썸네일 생성 시작)
         List<Media> mediaList = hasNoFiles
@@ -69,10 +71,7 @@ public class GuideController {
 
     @GetMapping("/my")
     public ResponseEntity<List<GuideResponseDto>> myGuides(@AuthenticationPrincipal UserDetails userDetails) {
-        String email = userDetails.getUsername();
-        Member member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("no member : " +  email));
-        Long memberId = member.getId();
+        Long memberId = memberIdCache.getMemberId(userDetails.getUsername());
         return ResponseEntity.ok(guideService.getMyGuides(memberId));
     }
 
@@ -97,6 +96,33 @@ public class GuideController {
     ) {
         return guideService.findGuidesNear(lat, lng, radius);
     }
+
+    /**
+     * 근처 가이드 거리순 커서 페이징 (거리 → id 순)
+     * cursor는 이전 응답의 nextCursor를 그대로 전달 (첫 페이지는 생략)
+     */
+    @GetMapping("/nearby/paged")
+    public SliceResponse<GuideResponseDto> getNearbyGuidesPaged(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "20") double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return guideService.findGuidesNearPaged(lat, lng, radius, cursor, size);
+    }
+
+    /**
+     * 반경 제한 없이 가까운 가이드 limit개 (거리순, 지도 화면용)
+     */
+    @GetMapping("/nearest")
+    public List<GuideResponseDto> getNearestGuides(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return guideService.findGuidesNearest(lat, lng, limit);
+    }
     // 게시글 상세 조회 API
     @GetMapping("/{id}")
     public ResponseEntity<GuideResponseDto> getGuide(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
@@ -106,16 +132,40 @@ public class GuideController {
 
     @PostMapping("/like/{id}")
     public ResponseEntity<Map<String, Object>> likeGuide(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
-        boolean liked = guideService.toggleLike(id, userDetails);
-        GuideResponseDto updatedGuide = guideService.findGuideById(id, userDetails);
+        // 토글 결과에 likeCount가 포함됨 → Guide 상세 재조회 없음
+        LikeResultDto result = guideService.toggleLike(id, userDetails);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("liked", liked);
-        response.put("likeCount", updatedGuide.getLikeCount());
+        response.put("liked", result.isLiked());
+        response.put("likeCount", result.getLikeCount());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 좋아요 (멱등: 이미 좋아요 상태면 UNCHANGED)
+     */
+    @PutMapping("/like/{id}")
+    public ResponseEntity<LikeResultDto> putLike(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(guideService.setLike(id, true, userDetails));
+    }
+
+    /**
+     * 좋아요 취소 (멱등: 좋아요가 없으면 UNCHANGED)
+     */
+    @DeleteMapping("/like/{id}")
+    public ResponseEntity<LikeResultDto> deleteLike(@PathVariable Long id, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(guideService.setLike(id, false, userDetails));
+    }
+
+    /**
+     * 앱 오프라인 큐의 좋아요/취소 작업 일괄 반영 (작업별 결과를 opId와 함께 요청 순서대로 반환)
+     */
+    @PostMapping("/like/batch")
+    public ResponseEntity<List<LikeResultDto>> batchLike(@RequestBody LikeBatchRequestDto request, @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(guideService.applyLikes(request.getOperations(), userDetails));
+    }
+
 
 //    @GetMapping("/api/distance")
 //    public List<GuideDto> getGuidesDistance() {
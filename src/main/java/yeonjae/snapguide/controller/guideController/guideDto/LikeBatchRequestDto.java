@@ -0,0 +1,30 @@
+package yeonjae.snapguide.controller.guideController.guideDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오프라인 큐에 쌓인 좋아요/취소 작업 일괄 전송
+ * 각 작업은 "liked 상태로 만들기"라서 같은 작업을 다시 보내도 결과가 같음 (멱등)
+ * 같은 Guide에 대한 작업이 여러 개면 마지막 작업 기준
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeBatchRequestDto {
+
+    private List<Operation> operations = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+        private String opId;
+        private Long guideId;
+        private boolean liked;
+    }
+}
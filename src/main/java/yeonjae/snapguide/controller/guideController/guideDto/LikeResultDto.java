@@ -0,0 +1,31 @@
+package yeonjae.snapguide.controller.guideController.guideDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 좋아요 / 취소 결과
+ * likeCount는 이번 변경까지 반영된 값 (Guide 상세 재조회 없이 응답)
+ */
+@Data
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LikeResultDto {
+
+    public enum Status {
+        APPLIED,     // 상태가 바뀜
+        UNCHANGED,   // 이미 요청한 상태 (같은 요청 재전송 포함)
+        SUPERSEDED,  // 배치 안에서 같은 Guide에 대한 뒤 작업이 최종 상태를 결정
+        NOT_FOUND    // Guide 없음
+    }
+
+    /**
+     * 클라이언트 작업 ID (배치 요청에서 그대로 돌려줌, 단건은 null)
+     */
+    private String opId;
+    private Long guideId;
+    private boolean liked;
+    private int likeCount;
+    private Status status;
+}
@@ -26,10 +26,10 @@ public class SliceResponse<T> {
     private boolean hasNext;
 
     /**
-     * 다음 페이지를 요청할 때 사용할 커서 (마지막 아이템의 ID)
+     * 다음 페이지를 요청할 때 사용할 커서 (마지막 아이템 기준, 클라이언트는 그대로 전달만 함)
      * hasNext가 false면 null
      */
-    private Long nextCursor;
+    private String nextCursor;
 
     /**
      * 현재 페이지의 아이템 개수
@@ -44,13 +44,13 @@ public class SliceResponse<T> {
     /**
      * Spring Data Slice를 SliceResponse로 변환하는 정적 팩토리 메서드
      * @param slice Spring Data Slice
-     * @param getCursor 커서 추출 함수 (예: GuideResponseDto::getId)
+     * @param getCursor 커서 추출 함수 (예: dto -> String.valueOf(dto.getId()))
      * @param <T> 컨텐츠 타입
      * @return SliceResponse
      */
-    public static <T> SliceResponse<T> from(Slice<T> slice, java.util.function.Function<T, Long> getCursor) {
+    public static <T> SliceResponse<T> from(Slice<T> slice, java.util.function.Function<T, String> getCursor) {
         List<T> content = slice.getContent();
-        Long nextCursor = slice.hasNext() && !content.isEmpty()
+        String nextCursor = slice.hasNext() && !content.isEmpty()
                 ? getCursor.apply(content.get(content.size() - 1))
                 : null;
 
@@ -4,8 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import yeonjae.snapguide.controller.locationController.locationDto.LocationRequestDto;
-import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.service.locationSerivce.LocationServiceGeoImpl;
 import yeonjae.snapguide.service.util.googleMapApiDto.PlaceAutocompleteService;
 
@@ -19,11 +19,11 @@ public class LocationController {
     private final PlaceAutocompleteService placeAutocompleteService;
 
 
+    // 역지오코딩 응답을 기다리는 동안 요청 스레드를 반환 (Mono → 비동기 응답)
     @PostMapping("/api/upload")
-    public ResponseEntity<String> saveLocation(@RequestBody LocationRequestDto requestDto) {
-        Location location = locationServiceGeoImpl.saveLocation(requestDto.getLatitude(), requestDto.getLongitude());
-
-        return ResponseEntity.ok("위치 저장 완료");
+    public Mono<ResponseEntity<String>> saveLocation(@RequestBody LocationRequestDto requestDto) {
+        return locationServiceGeoImpl.saveLocationAsync(requestDto.getLatitude(), requestDto.getLongitude())
+                .map(location -> ResponseEntity.ok("위치 저장 완료"));
     }
 
     @GetMapping("/api/places/autocomplete")
@@ -15,6 +15,7 @@ import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.domain.media.MediaDto;
 import yeonjae.snapguide.service.fileStorageService.FileStorageService;
 import yeonjae.snapguide.service.fileStorageService.MediaResponseDto;
+import yeonjae.snapguide.service.fileStorageService.MediaVariants;
 import yeonjae.snapguide.service.fileStorageService.S3FileStorageService;
 import yeonjae.snapguide.service.mediaSerivce.MediaService;
 
@@ -36,6 +37,7 @@ public class MediaController {
 
     private final MediaService mediaService;
     private final FileStorageService fileStorageService;
+    private final MediaVariants mediaVariants;
 
 //    private final Path uploadDir = Paths.get(System.getProperty("user.dir"), "uploads");
     @Value("${storage.local.base-dir}")
@@ -64,8 +66,22 @@ public class MediaController {
 
     // 파일 다운로드: URL로 접근 (e.g. /media/files/uuid.jpg)
     // local과 S3 모두 지원
+    // size 지정 시 해당 크기 이상 중 가장 작은 variant 제공 (e.g. /media/files/uuid.jpg?size=320 → uuid_320.jpg)
     @GetMapping("/files/{filename:.+}")
-    public ResponseEntity<?> serveFile(@PathVariable String filename) throws IOException {
+    public ResponseEntity<?> serveFile(@PathVariable String filename,
+                                       @RequestParam(value = "size", required = false) Integer size) throws IOException {
+        if (size != null) {
+            String variantName = MediaVariants.fileName(MediaVariants.baseFileName(filename), mediaVariants.pick(size));
+            ResponseEntity<?> variant = serveStoredFile(variantName);
+            if (variant.getStatusCode() != HttpStatus.NOT_FOUND) {
+                return variant;
+            }
+            // variant 생성 전이거나 이전 업로드 → 요청한 파일 그대로
+        }
+        return serveStoredFile(filename);
+    }
+
+    private ResponseEntity<?> serveStoredFile(String filename) throws IOException {
         // S3 스토리지인 경우
         if (fileStorageService instanceof S3FileStorageService) {
             S3FileStorageService s3Service = (S3FileStorageService) fileStorageService;
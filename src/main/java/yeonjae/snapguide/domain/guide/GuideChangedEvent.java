@@ -0,0 +1,38 @@
+package yeonjae.snapguide.domain.guide;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * Guide 생성/수정/삭제 후 발행되는 이벤트
+ * 트랜잭션 커밋 이후(@TransactionalEventListener) 인메모리 인덱스, 캐시 등을 갱신하는 용도
+ *
+ * @param guideId    변경된 Guide ID
+ * @param coordinate Guide 위치 좌표 (위치가 없는 Guide는 null)
+ * @param type       변경 유형
+ */
+public record GuideChangedEvent(Long guideId, Point coordinate, ChangeType type) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static GuideChangedEvent created(Guide guide) {
+        return new GuideChangedEvent(guide.getId(), coordinateOf(guide), ChangeType.CREATED);
+    }
+
+    public static GuideChangedEvent updated(Guide guide) {
+        return new GuideChangedEvent(guide.getId(), coordinateOf(guide), ChangeType.UPDATED);
+    }
+
+    public static GuideChangedEvent deleted(Guide guide) {
+        return new GuideChangedEvent(guide.getId(), coordinateOf(guide), ChangeType.DELETED);
+    }
+
+    public boolean hasCoordinate() {
+        return coordinate != null;
+    }
+
+    private static Point coordinateOf(Guide guide) {
+        return guide.getLocation() != null ? guide.getLocation().getCoordinate() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package yeonjae.snapguide.domain.guide;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.locationtech.jts.geom.Point;
+import yeonjae.snapguide.domain.media.MediaDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 근처 가이드 조회용 비정규화 테이블 (guide + member + location + 앞쪽 N개 media)
+ *
+ * 위치가 있는 Guide만 1행씩 유지, 쓰기는 GuideFeedService의 네이티브 upsert로만 함
+ * (엔티티는 ddl-auto 테이블 생성용, coordinate GiST 인덱스는 GuideFeedService가 기동 시 생성)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "guide_feed")
+public class GuideFeed {
+
+    @Id
+    private Long guideId;
+
+    @Column(columnDefinition = "geometry(Point, 4326)", nullable = false)
+    private Point coordinate;
+
+    @Column(length = 1000)
+    private String tip;
+
+    @Column(nullable = false)
+    private Long authorId;
+
+    private String authorEmail;
+
+    private String locationName;
+
+    // [{"fileName": ..., "url": ...}] media id 순 앞쪽 N개
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb", nullable = false)
+    private List<MediaDto> media;
+
+    @Column(nullable = false)
+    private int likeCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -9,6 +9,7 @@ import yeonjae.snapguide.domain.guide.Guide;
 import yeonjae.snapguide.domain.member.Member;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_guide_like_member_guide", columnNames = {"member_id", "guide_id"}))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
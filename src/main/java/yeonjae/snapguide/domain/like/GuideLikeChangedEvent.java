@@ -0,0 +1,11 @@
+package yeonjae.snapguide.domain.like;
+
+/**
+ * 좋아요 추가/취소 후 발행되는 이벤트
+ * 커밋 이후(@TransactionalEventListener) GuideLikeCounter가 likeCount 변화량으로 누적
+ *
+ * @param guideId 대상 Guide ID
+ * @param delta   +1(좋아요) / -1(취소)
+ */
+public record GuideLikeChangedEvent(Long guideId, int delta) {
+}
@@ -0,0 +1,89 @@
+package yeonjae.snapguide.domain.media;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import yeonjae.snapguide.infrastructure.persistence.jpa.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파생 파일(웹용/썸네일) 생성 작업 (DB 기반 작업 큐)
+ *
+ * - Media와 같은 트랜잭션에서 저장 → 커밋된 Media는 반드시 작업이 남아 있음
+ * - 성공하면 행 삭제, 실패하면 backoff 후 재시도, 최대 횟수 초과 시 FAILED로 남김
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_derivative_job_status_next_run", columnList = "status, nextRunAt"))
+public class DerivativeJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long mediaId;
+
+    @Column(nullable = false)
+    private String baseFileName;
+
+    @Column(nullable = false)
+    private String originalKey;
+
+    // 업로드 인스턴스의 임시 파일 경로 (없거나 사라졌으면 originalKey에서 다시 받음)
+    private String sourcePath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DerivativeJobStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public DerivativeJob(Long mediaId, String baseFileName, String originalKey, String sourcePath) {
+        this.mediaId = mediaId;
+        this.baseFileName = baseFileName;
+        this.originalKey = originalKey;
+        this.sourcePath = sourcePath;
+        this.status = DerivativeJobStatus.PENDING;
+        this.nextRunAt = LocalDateTime.now();
+    }
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = DerivativeJobStatus.RUNNING;
+        this.attempts++;
+        this.nextRunAt = leaseUntil;
+    }
+
+    public void retryAt(LocalDateTime nextRunAt, String error) {
+        this.status = DerivativeJobStatus.PENDING;
+        this.nextRunAt = nextRunAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = DerivativeJobStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 작업자 큐가 가득 차 실행하지 못한 경우 (시도 횟수에서 제외)
+     */
+    public void release() {
+        this.status = DerivativeJobStatus.PENDING;
+        this.attempts--;
+        this.nextRunAt = LocalDateTime.now();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,7 @@
+package yeonjae.snapguide.domain.media;
+
+public enum DerivativeJobStatus {
+    PENDING,  // 실행 대기 (재시도 대기 포함)
+    RUNNING,  // 작업자가 가져감 (nextRunAt = 임대 만료 시각, 지나면 다시 가져갈 수 있음)
+    FAILED    // 최대 재시도 초과
+}
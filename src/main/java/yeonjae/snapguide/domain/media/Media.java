@@ -6,6 +6,8 @@ import yeonjae.snapguide.domain.guide.Guide;
 import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
 import yeonjae.snapguide.domain.location.Location;
 
+import java.util.List;
+
 @Entity
 @Getter
 @Builder(toBuilder = true)
@@ -26,6 +28,10 @@ public class Media {
     private String webKey;
     private String thumbnailKey;
 
+    // 크기별 파생 이미지 키 (쉼표 구분, 예: "images/web/uuid_320.jpg,images/web/uuid_720.jpg,...")
+    @Column(length = 1000)
+    private String variantKeys;
+
 //    @Enumerated(value = EnumType.STRING)
 //    @Column(nullable = false)
 //    private MediaType mediaType;
@@ -76,6 +82,17 @@ public class Media {
         this.mediaUrl = mediaUrl;
     }
 
+    public void updateVariantKeys(List<String> variantKeys) {
+        this.variantKeys = String.join(",", variantKeys);
+    }
+
+    public List<String> getVariantKeyList() {
+        if (variantKeys == null || variantKeys.isBlank()) {
+            return List.of();
+        }
+        return List.of(variantKeys.split(","));
+    }
+
     /**
      * 비동기 처리 완료 후 썸네일 URL 업데이트 (Local용)
      */
@@ -15,14 +15,22 @@ public class ExifCoordinateExtractor {
     public static Optional<double[]> extractCoordinate(InputStream inputStream) { // 왜 double이고 Double가 아닌지
         try {
             Metadata metadata = ImageMetadataReader.readMetadata(inputStream);
-            GpsDirectory gpsDir = metadata.getFirstDirectoryOfType(GpsDirectory.class);
-            if (gpsDir != null && gpsDir.getGeoLocation() != null) {
-                GeoLocation loc = gpsDir.getGeoLocation();
-                return Optional.of(new double[]{loc.getLatitude(), loc.getLongitude()});
-            }
+            return extractCoordinate(metadata);
         } catch (Exception e) {
             e.printStackTrace(); // TODO : 로그로 바꿔야함
         }
         return Optional.empty();
     }
+
+    /**
+     * 이미 파싱된 Metadata에서 추출 (ParsedImageMetadata에서 사용)
+     */
+    public static Optional<double[]> extractCoordinate(Metadata metadata) {
+        GpsDirectory gpsDir = metadata.getFirstDirectoryOfType(GpsDirectory.class);
+        if (gpsDir != null && gpsDir.getGeoLocation() != null) {
+            GeoLocation loc = gpsDir.getGeoLocation();
+            return Optional.of(new double[]{loc.getLatitude(), loc.getLongitude()});
+        }
+        return Optional.empty();
+    }
 }
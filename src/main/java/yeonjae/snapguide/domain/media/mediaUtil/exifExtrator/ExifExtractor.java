@@ -1,6 +1,5 @@
 package yeonjae.snapguide.domain.media.mediaUtil.exifExtrator;
 
-import com.drew.imaging.ImageMetadataReader;
 import com.drew.metadata.Directory;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifIFD0Directory;
@@ -8,7 +7,6 @@ import com.drew.metadata.exif.ExifSubIFDDirectory;
 import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
 import yeonjae.snapguide.domain.media.mediaUtil.exifUtil.*;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.time.LocalDateTime;
@@ -19,8 +17,14 @@ import java.time.LocalDateTime;
 
 public class ExifExtractor {
     public static MediaMetaData extract(byte[] imageBytes) {
+        return ParsedImageMetadata.parse(imageBytes).toMediaMetaData();
+    }
+
+    /**
+     * 이미 파싱된 Metadata에서 추출 (ParsedImageMetadata에서 사용)
+     */
+    public static MediaMetaData extract(Metadata metadata) {
         try {
-            Metadata metadata = ImageMetadataReader.readMetadata(new ByteArrayInputStream(imageBytes));
             ExifSubIFDDirectory exif = metadata.getFirstDirectoryOfType(ExifSubIFDDirectory.class);
             ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
 
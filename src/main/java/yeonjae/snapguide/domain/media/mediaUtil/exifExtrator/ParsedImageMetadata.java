@@ -0,0 +1,98 @@
+package yeonjae.snapguide.domain.media.mediaUtil.exifExtrator;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.jpeg.JpegMetadataReader;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drew.metadata.exif.ExifReader;
+import lombok.extern.slf4j.Slf4j;
+import yeonjae.snapguide.domain.cameraModel.CameraModel;
+import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 1개당 한 번만 파싱한 EXIF 메타데이터
+ * MediaMetaData, CameraModel, GPS 좌표를 모두 여기서 꺼낸다. (기존: 파일당 readMetadata 3회)
+ *
+ * JPEG: APP1(EXIF) 세그먼트만 읽고 SOS(이미지 데이터 시작) 전에 멈춤 → 본문 수 MB는 읽지 않음
+ * 그 외(HEIC, PNG 등): 기존처럼 ImageMetadataReader로 전체 파싱
+ */
+@Slf4j
+public class ParsedImageMetadata {
+
+    private static final ParsedImageMetadata EMPTY = new ParsedImageMetadata(new Metadata());
+
+    private final Metadata metadata;
+
+    private ParsedImageMetadata(Metadata metadata) {
+        this.metadata = metadata;
+    }
+
+    public static ParsedImageMetadata parse(byte[] imageBytes) {
+        if (imageBytes == null || imageBytes.length == 0) {
+            return EMPTY;
+        }
+        try {
+            Metadata metadata = isJpeg(imageBytes)
+                    ? JpegMetadataReader.readMetadata(new ByteArrayInputStream(imageBytes), List.of(new ExifReader()))
+                    : ImageMetadataReader.readMetadata(new ByteArrayInputStream(imageBytes));
+            return new ParsedImageMetadata(metadata);
+        } catch (Exception e) {
+            log.warn("[EXIF] Failed to read metadata ({} bytes): {}", imageBytes.length, e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * 임시 파일(UploadSpillStore)에서 스트리밍으로 파싱 (파일 전체를 힙에 올리지 않음)
+     */
+    public static ParsedImageMetadata parse(Path imageFile) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(imageFile))) {
+            in.mark(2);
+            byte[] header = in.readNBytes(2);
+            in.reset();
+            Metadata metadata = isJpeg(header)
+                    ? JpegMetadataReader.readMetadata(in, List.of(new ExifReader()))
+                    : ImageMetadataReader.readMetadata(in);
+            return new ParsedImageMetadata(metadata);
+        } catch (Exception e) {
+            log.warn("[EXIF] Failed to read metadata from {}: {}", imageFile, e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    public MediaMetaData toMediaMetaData() {
+        return ExifExtractor.extract(metadata);
+    }
+
+    public CameraModel toCameraModel() {
+        return CameraModelExtractor.extract(metadata);
+    }
+
+    /**
+     * @return [위도, 경도], GPS 정보가 없으면 empty
+     */
+    public Optional<double[]> coordinate() {
+        return ExifCoordinateExtractor.extractCoordinate(metadata);
+    }
+
+    /**
+     * EXIF Orientation (1~8), 정보가 없으면 1 (정방향)
+     */
+    public int orientation() {
+        ExifIFD0Directory ifd0 = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+        Integer orientation = ifd0 != null ? ifd0.getInteger(ExifIFD0Directory.TAG_ORIENTATION) : null;
+        return orientation != null && orientation >= 1 && orientation <= 8 ? orientation : 1;
+    }
+
+    public static boolean isJpeg(byte[] bytes) {
+        return bytes != null && bytes.length >= 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8;
+    }
+}
@@ -0,0 +1,9 @@
+package yeonjae.snapguide.domain.member;
+
+/**
+ * 회원 삭제 후 발행되는 이벤트 (커밋 이후 email 기반 캐시 정리용)
+ *
+ * @param email 삭제된 회원 email
+ */
+public record MemberDeletedEvent(String email) {
+}
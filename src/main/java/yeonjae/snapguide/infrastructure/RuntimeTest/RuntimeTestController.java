@@ -45,5 +45,8 @@ public class RuntimeTestController {
 
     @GetMapping("/findNearbyOptimized")
     public void findNearbyOptimized() {runtimeTestService.findNearbyOptimized();}
+
+    @GetMapping("/compareNearbyGeography")
+    public void compareNearbyGeography() {runtimeTestService.compareNearbyGeography();}
 }
 
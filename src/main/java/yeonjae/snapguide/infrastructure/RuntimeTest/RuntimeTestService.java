@@ -9,9 +9,13 @@ import org.springframework.util.StopWatch;
 import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.infrastructure.aop.TimeTrace;
 import yeonjae.snapguide.repository.locationRepository.GeoUtil;
+import yeonjae.snapguide.repository.locationRepository.LocationDistanceView;
 import yeonjae.snapguide.repository.locationRepository.LocationRepository;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -32,6 +36,8 @@ public class RuntimeTestService {
 
     private final List<Double> radiusKmList = List.of(1.0, 5.0, 10.0, 50.0);
 
+    private static final int BENCHMARK_REPEAT = 5;
+
     @TimeTrace
     @Transactional
     public void testExactCoordinateSearch() {
@@ -146,6 +152,59 @@ public class RuntimeTestService {
         log.info("\n{}", watch.prettyPrint());
     }
 
+    /**
+     * 기존 degree 근사 반경 검색(findNearbyOptimized) vs geography 반경 검색(findNearbyGeography)
+     * - rows: 반환 행 수
+     * - outside: 실제 반경(하버사인) 밖인데 반환된 행 (클라이언트가 버리던 행)
+     * - missed: geography 결과에는 있는데 degree 검색에는 없는 행
+     * - avg ms: 1회 워밍업 후 BENCHMARK_REPEAT회 평균
+     */
+    @TimeTrace
+    @Transactional(readOnly = true)
+    public void compareNearbyGeography() {
+        log.info("=== Degree Approximation vs Geography Radius Search ===");
+        StringBuilder report = new StringBuilder(String.format("%n%-18s %6s | %8s %8s %8s | %8s %8s %8s%n",
+                "location", "km", "deg rows", "outside", "avg ms", "geo rows", "missed", "avg ms"));
+        for (LocationPoint location : testLocations) {
+            for (Double radius : radiusKmList) {
+                double[] box = GeoUtil.getBoundingBox(location.lat(), location.lng(), radius);
+                double radiusInDegrees = GeoUtil.kmToDegrees(location.lat(), radius);
+
+                Supplier<List<Location>> degreeSearch = () -> locationRepository.findNearbyOptimized(
+                        location.lat(), location.lng(), radiusInDegrees, box[0], box[2], box[1], box[3]);
+                Supplier<List<LocationDistanceView>> geographySearch = () -> locationRepository.findNearbyGeography(
+                        location.lat(), location.lng(), radius * 1000);
+
+                List<Location> degreeRows = degreeSearch.get();
+                List<LocationDistanceView> geographyRows = geographySearch.get();
+                double degreeMs = averageMillis(degreeSearch);
+                double geographyMs = averageMillis(geographySearch);
+
+                long outside = degreeRows.stream()
+                        .filter(loc -> GeoUtil.haversine(location.lat(), location.lng(),
+                                loc.getCoordinate().getY(), loc.getCoordinate().getX()) > radius)
+                        .count();
+                Set<Long> degreeIds = degreeRows.stream().map(Location::getId).collect(Collectors.toSet());
+                long missed = geographyRows.stream()
+                        .filter(view -> !degreeIds.contains(view.getLocationId()))
+                        .count();
+
+                report.append(String.format("%-18s %6.0f | %8d %8d %8.2f | %8d %8d %8.2f%n",
+                        location.name(), radius, degreeRows.size(), outside, degreeMs,
+                        geographyRows.size(), missed, geographyMs));
+            }
+        }
+        log.info("{}", report);
+    }
+
+    private double averageMillis(Supplier<?> query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_REPEAT; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / BENCHMARK_REPEAT;
+    }
+
     private void logLocations(String context, List<Location> locations) {
         for (Location loc : locations) {
             Point point = loc.getCoordinate();
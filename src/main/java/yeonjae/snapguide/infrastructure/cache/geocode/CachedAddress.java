@@ -0,0 +1,71 @@
+package yeonjae.snapguide.infrastructure.cache.geocode;
+
+import yeonjae.snapguide.domain.location.GeometryUtils;
+import yeonjae.snapguide.domain.location.Location;
+import yeonjae.snapguide.domain.location.LocationDto;
+
+/**
+ * 역지오코딩 결과 중 셀 단위로 재사용할 주소 부분 (좌표, 원본 JSON 제외)
+ *
+ * found = false : 사용량 초과(OVER_QUERY_LIMIT) / 결과 없음 → 좌표만 저장 (negative cache)
+ */
+public record CachedAddress(
+        boolean found,
+        String countryCode,
+        String formattedAddress,
+        String country,
+        String region,
+        String city,
+        String subRegion,
+        String district,
+        String street,
+        String streetNumber,
+        String buildingName,
+        String subPremise,
+        String postalCode
+) {
+
+    public static CachedAddress notFound() {
+        return new CachedAddress(false, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public static CachedAddress from(LocationDto dto) {
+        return new CachedAddress(
+                true,
+                dto.getCountryCode(),
+                dto.getFormattedAddress(),
+                dto.getCountry(),
+                dto.getRegion(),
+                dto.getCity(),
+                dto.getSubRegion(),
+                dto.getDistrict(),
+                dto.getStreet(),
+                dto.getStreetNumber(),
+                dto.getBuildingName(),
+                dto.getSubPremise(),
+                dto.getPostalCode()
+        );
+    }
+
+    /**
+     * 요청 좌표 그대로 새 Location 생성 (주소만 재사용)
+     */
+    public Location toLocation(double lat, double lng, String rawJson) {
+        return Location.builder()
+                .coordinate(GeometryUtils.createPoint(lat, lng))
+                .countryCode(countryCode)
+                .formattedAddress(formattedAddress)
+                .country(country)
+                .region(region)
+                .city(city)
+                .subRegion(subRegion)
+                .district(district)
+                .street(street)
+                .streetNumber(streetNumber)
+                .buildingName(buildingName)
+                .subPremise(subPremise)
+                .postalCode(postalCode)
+                .rawJson(rawJson)
+                .build();
+    }
+}
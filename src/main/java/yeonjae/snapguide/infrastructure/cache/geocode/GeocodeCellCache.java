@@ -0,0 +1,112 @@
+package yeonjae.snapguide.infrastructure.cache.geocode;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import yeonjae.snapguide.infrastructure.spatial.GeoTile;
+
+import java.time.Duration;
+
+/**
+ * 역지오코딩 결과 캐시 (좌표 셀 단위, L1 Caffeine + L2 Redis)
+ *
+ * 키 형식: "geocode:cell:{cellSize}:{row}:{col}" (GeoTile, 기본 0.0005도 ≒ 50m)
+ * - 같은 셀 안에서 찍은 사진은 API 호출 없이 주소 재사용
+ * - 주소를 찾으면 ttl, 사용량 초과/결과 없음은 negativeTtl 동안만 보관 (짧게 두어 곧 다시 시도)
+ * - Redis 오류는 캐시 미스로 처리 (역지오코딩 자체는 계속 진행)
+ *
+ * NOTE : Redis 호출이 블로킹이므로 이벤트 루프가 아닌 스레드에서 호출할 것
+ */
+@Slf4j
+@Component
+public class GeocodeCellCache {
+
+    private static final String KEY_PREFIX = "geocode:cell:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final double cellSizeDegrees;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Cache<String, CachedAddress> local;
+
+    public GeocodeCellCache(RedisTemplate<String, Object> redisTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${geocoding.cache.cell-size-degrees:0.0005}") double cellSizeDegrees,
+                            @Value("${geocoding.cache.ttl-hours:720}") long ttlHours,
+                            @Value("${geocoding.cache.negative-ttl-seconds:300}") long negativeTtlSeconds,
+                            @Value("${geocoding.cache.local-maximum-size:10000}") long localMaximumSize) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfter(new Expiry<String, CachedAddress>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAddress value, long currentTime) {
+                        return ttlOf(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAddress value, long currentTime, long currentDuration) {
+                        return ttlOf(value).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAddress value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 좌표가 속한 셀의 캐시 키 (진행 중인 요청 합치기에도 사용)
+     */
+    public String cellKey(double lat, double lng) {
+        GeoTile tile = GeoTile.of(lat, lng, cellSizeDegrees);
+        return KEY_PREFIX + cellSizeDegrees + ":" + tile.row() + ":" + tile.col();
+    }
+
+    /**
+     * @return 캐시된 결과, 없으면 null
+     */
+    public CachedAddress get(String cellKey) {
+        CachedAddress cached = local.getIfPresent(cellKey);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Object json = redisTemplate.opsForValue().get(cellKey);
+            if (json == null) {
+                return null;
+            }
+            CachedAddress remote = objectMapper.readValue(json.toString(), CachedAddress.class);
+            local.put(cellKey, remote);
+            return remote;
+        } catch (Exception e) {
+            log.warn("[GeocodeCellCache] Failed to read {}: {}", cellKey, e.toString());
+            return null;
+        }
+    }
+
+    public void put(String cellKey, CachedAddress address) {
+        local.put(cellKey, address);
+        try {
+            redisTemplate.opsForValue().set(cellKey, objectMapper.writeValueAsString(address), ttlOf(address));
+        } catch (Exception e) {
+            log.warn("[GeocodeCellCache] Failed to write {}: {}", cellKey, e.toString());
+        }
+    }
+
+    private Duration ttlOf(CachedAddress address) {
+        return address.found() ? ttl : negativeTtl;
+    }
+}
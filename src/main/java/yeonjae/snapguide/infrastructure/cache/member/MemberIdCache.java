@@ -0,0 +1,102 @@
+package yeonjae.snapguide.infrastructure.cache.member;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import yeonjae.snapguide.domain.member.MemberDeletedEvent;
+import yeonjae.snapguide.infrastructure.cache.twolevel.CacheInvalidationMessage;
+import yeonjae.snapguide.infrastructure.cache.twolevel.CacheInvalidationPublisher;
+import yeonjae.snapguide.repository.memberRepository.MemberRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로그인 email → Member id 로컬 캐시
+ *
+ * 인증된 요청의 principal에는 email만 있어서 매번 findByEmail로 Member 전체를 읽었음
+ * id만 필요한 곳(작성자 확인, 좋아요 등)은 여기서 꺼내 쓰고, Member가 필요하면 getReferenceById로 프록시 사용
+ *
+ * email ↔ id는 회원 삭제 전까지 바뀌지 않음
+ * 삭제 커밋 후 MemberDeletedEvent로 evict() → cache:invalidation 채널로 다른 인스턴스에도 전파
+ * (커밋 전에 지우면 그 사이 다른 요청이 삭제 전 id를 다시 캐시할 수 있음)
+ */
+@Slf4j
+@Component
+public class MemberIdCache implements MessageListener {
+
+    public static final String CACHE_NAME = "memberIds";
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, Long> ids;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public MemberIdCache(MemberRepository memberRepository,
+                         RedisTemplate<String, Object> redisTemplate,
+                         @Value("${member.id-cache.maximum-size:100000}") long maximumSize,
+                         @Value("${member.id-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.memberRepository = memberRepository;
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.invalidationPublisher = new CacheInvalidationPublisher(redisTemplate, objectMapper);
+    }
+
+    /**
+     * @throws UsernameNotFoundException 해당 email의 회원이 없을 때 (없는 결과는 캐시하지 않음)
+     */
+    public Long getMemberId(String email) {
+        Long id = ids.get(email, key -> memberRepository.findIdByEmail(key).orElse(null));
+        if (id == null) {
+            throw new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다.");
+        }
+        return id;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        evict(event.email());
+    }
+
+    /**
+     * 이 인스턴스에서 지우고 다른 인스턴스에도 알림 (발행 실패 시 다른 인스턴스는 ttl 뒤 만료)
+     */
+    public void evict(String email) {
+        ids.invalidate(email);
+        invalidationPublisher.publish(CACHE_NAME, List.of(email));
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 (cache:invalidation 채널 공유, 다른 캐시 이름은 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            if (!CACHE_NAME.equals(invalidation.cacheName())
+                    || invalidationPublisher.getInstanceId().equals(invalidation.origin())) {
+                return;
+            }
+            if (invalidation.keys().isEmpty()) {
+                ids.invalidateAll();
+            } else {
+                ids.invalidateAll(invalidation.keys());
+            }
+        } catch (Exception e) {
+            log.warn("[MemberIdCache] Failed to handle invalidation message", e);
+        }
+    }
+}
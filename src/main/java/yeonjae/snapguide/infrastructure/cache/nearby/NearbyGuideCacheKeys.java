@@ -0,0 +1,166 @@
+package yeonjae.snapguide.infrastructure.cache.nearby;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import yeonjae.snapguide.domain.guide.GuideChangedEvent;
+import yeonjae.snapguide.infrastructure.cache.twolevel.TwoLevelCache;
+import yeonjae.snapguide.infrastructure.spatial.GeoTile;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * nearbyGuides 캐시의 타일 기반 키 생성 + 변경 위치 주변만 골라서 무효화
+ *
+ * 키 형식: "{row}:{col}:{radius}" (예: "nearbyGuides::3755:12692:20.0")
+ * - 검색 중심을 tileSizeDegrees 타일로 묶음 (기본 0.01도 = 기존 소수점 2자리 반올림과 같은 해상도)
+ * - 반경은 요청 값 그대로 (검색도 요청 반경으로, 결과가 요청 반경을 넘지 않음)
+ * - maxCachedRadiusKm보다 큰 반경은 캐시하지 않음 (isCacheable, 변경 시 대상 타일이 너무 많아 부분 무효화 불가)
+ *
+ * 무효화:
+ * - Guide 변경 커밋 후, 변경 좌표가 반경 안에 들어올 수 있는 (타일, 반경) 키만 반경별로 삭제
+ * - 사용 중인 반경은 키 생성 시 Redis Set(RADII_KEY)에 등록해 두고 무효화 시 사용 (인스턴스 간 공유)
+ *   Set은 캐시 TTL + 재등록 주기 뒤 만료, 인스턴스마다 재등록 주기마다 다시 등록해서 만료를 연장
+ *   → Set이 없으면 살아 있는 캐시 항목도 없음 (로컬 등록 기록만 비워서 다음 키 생성 때 다시 등록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearbyGuideCacheKeys implements KeyGenerator {
+
+    public static final String CACHE_NAME = "nearbyGuides";
+    private static final String RADII_KEY = "nearbyGuides:radii";
+    // 캐시 TTL(30분, RedisCacheConfig) + 재등록 주기 → 마지막 등록 이후 쓰인 캐시 항목보다 Set이 먼저 만료되지 않음
+    private static final Duration REREGISTER_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration RADII_TTL = Duration.ofMinutes(30).plus(REREGISTER_INTERVAL);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheManager cacheManager;
+
+    @Value("${guide.nearby-cache.tile-size-degrees:0.01}")
+    private double tileSizeDegrees;
+
+    @Value("${guide.nearby-cache.max-evict-keys:20000}")
+    private int maxEvictKeys;
+
+    @Value("${guide.nearby-cache.max-cached-radius-km:50}")
+    private double maxCachedRadiusKm;
+
+    // 이 인스턴스에서 최근 재등록 주기 안에 Redis에 등록한 반경 (매 요청마다 SADD 하지 않기 위함)
+    private final com.github.benmanes.caffeine.cache.Cache<String, Boolean> registeredRadii = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(REREGISTER_INTERVAL)
+            .build();
+
+    /**
+     * findGuidesNear 캐시 사용 여부 (@Cacheable condition)
+     */
+    public boolean isCacheable(double radiusKm) {
+        return radiusKm > 0 && radiusKm <= maxCachedRadiusKm;
+    }
+
+    /**
+     * findGuidesNear(lat, lng, radius) 파라미터로 캐시 키 생성
+     */
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        double lat = ((Number) params[0]).doubleValue();
+        double lng = ((Number) params[1]).doubleValue();
+        String radius = radiusKey(((Number) params[2]).doubleValue());
+
+        registerRadius(radius);
+        return key(GeoTile.of(lat, lng, tileSizeDegrees), radius);
+    }
+
+    // feed 갱신(GuideFeedService), 인메모리 인덱스 반영(GuideSpatialIndex) 이후 마지막에 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (!event.hasCoordinate()) {
+            return; // 위치 없는 Guide는 근처 검색 결과에 포함되지 않음
+        }
+        double lat = event.coordinate().getY(); // Point는 (x=lng, y=lat)
+        double lng = event.coordinate().getX();
+
+        try {
+            evictAround(lat, lng);
+        } catch (Exception e) {
+            // 무효화 실패 시 TTL(30분)까지 오래된 결과가 보일 수 있으므로 전체 무효화 시도
+            log.error("[NearbyGuideCache] Targeted eviction failed for guide {}, clearing cache", event.guideId(), e);
+            clearAll();
+        }
+    }
+
+    private void evictAround(double lat, double lng) {
+        Collection<Object> radii = redisTemplate.opsForSet().members(RADII_KEY);
+        if (radii == null || radii.isEmpty()) {
+            registeredRadii.invalidateAll();
+            return;
+        }
+
+        int evicted = 0;
+        for (Object radius : radii) {
+            List<GeoTile> tiles = GeoTile.tilesWithin(
+                    lat, lng, Double.parseDouble(radius.toString()), tileSizeDegrees, maxEvictKeys);
+            if (tiles == null) {
+                // 캐시 대상 반경 상한(maxCachedRadiusKm)을 줄이기 전에 쓰인 키 등 → TTL로 만료
+                log.warn("[NearbyGuideCache] Radius {}km has too many tiles to evict, leaving it to TTL", radius);
+                continue;
+            }
+            List<String> keys = new ArrayList<>(tiles.size());
+            for (GeoTile tile : tiles) {
+                keys.add(key(tile, radius.toString()));
+            }
+            evictKeys(keys);
+            evicted += keys.size();
+        }
+        log.debug("[NearbyGuideCache] Evicted {} candidate keys around ({}, {})", evicted, lat, lng);
+    }
+
+    private void registerRadius(String radius) {
+        if (registeredRadii.getIfPresent(radius) != null) {
+            return;
+        }
+        redisTemplate.opsForSet().add(RADII_KEY, radius);
+        redisTemplate.expire(RADII_KEY, RADII_TTL);
+        registeredRadii.put(radius, Boolean.TRUE);
+    }
+
+    private void evictKeys(List<String> keys) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictAll(keys); // L2 DEL 1회 + 다른 인스턴스 L1 무효화
+        } else if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+
+    private void clearAll() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static String key(GeoTile tile, String radius) {
+        return tile.row() + ":" + tile.col() + ":" + radius;
+    }
+
+    private static String radiusKey(double radius) {
+        return Double.toString(radius);
+    }
+}
@@ -4,17 +4,25 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import yeonjae.snapguide.infrastructure.cache.member.MemberIdCache;
+import yeonjae.snapguide.infrastructure.cache.twolevel.CacheInvalidationPublisher;
+import yeonjae.snapguide.infrastructure.cache.twolevel.TwoLevelCacheManager;
+import yeonjae.snapguide.service.TokenVersionService;
 
 import java.time.Duration;
 
@@ -30,11 +38,21 @@ import java.time.Duration;
  * - @CacheEvict: 캐시 무효화
  * - @CachePut: 캐시 업데이트
  * 어노테이션을 사용할 수 있습니다.
+ *
+ * 실제 CacheManager는 TwoLevelCacheManager (L1 Caffeine + L2 Redis)
+ * - 자주 조회되는 키는 L1에서 Redis I/O, JSON 역직렬화 없이 반환
+ * - 무효화는 Redis pub/sub으로 다른 인스턴스의 L1까지 전파
  */
 @Configuration
 @EnableCaching // Spring Cache 기능 활성화 (AOP 기반 캐싱)
 public class RedisCacheConfig {
 
+    @Value("${cache.local.maximum-weight:20000}")
+    private long localMaximumWeight;
+
+    @Value("${cache.local.expire-after-write-seconds:60}")
+    private long localExpireAfterWriteSeconds;
+
     /**
      * CacheManager Bean 생성
      *
@@ -43,10 +61,12 @@ public class RedisCacheConfig {
      * 캐시 확인 → 저장 → 반환을 자동으로 처리합니다.
      *
      * @param connectionFactory RedisConfig에서 생성된 RedisConnectionFactory 주입
-     * @return RedisCacheManager
+     * @param redisTemplate     L2 일괄 삭제, 무효화 메시지 발행용
+     * @return TwoLevelCacheManager (L2 = RedisCacheManager)
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             RedisTemplate<String, Object> redisTemplate) {
         // ObjectMapper 설정: 타입 정보 없이 단순 JSON으로 직렬화 (역직렬화 문제 해결)
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // LocalDateTime 등 지원
@@ -71,7 +91,7 @@ public class RedisCacheConfig {
                 .disableCachingNullValues()
 
                 // Key 직렬화: String → UTF-8 바이트 배열
-                // 예: "nearbyGuides::37.557:126.924:2.0"
+                // 예: "nearbyGuides::3755:12692:20.0" (타일 row:col:반경, NearbyGuideCacheKeys)
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
                                 new StringRedisSerializer()
@@ -84,9 +104,35 @@ public class RedisCacheConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
-        // RedisCacheManager 생성 및 반환
-        return RedisCacheManager.builder(connectionFactory)
+        // RedisCacheManager 생성 (L2)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig) // 기본 설정 적용
                 .build();
+        redisCacheManager.afterPropertiesSet(); // @Bean으로 노출하지 않으므로 직접 초기화
+
+        // L1(Caffeine)을 앞단에 둔 2단 CacheManager 반환
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                redisTemplate,
+                new ObjectMapper(),
+                localMaximumWeight,
+                Duration.ofSeconds(localExpireAfterWriteSeconds)
+        );
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 L1/MemberIdCache 무효화 메시지 / 토큰 version 변경(keyspace notification) 구독 (연결 1개 공유)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                             TwoLevelCacheManager cacheManager,
+                                                                             TokenVersionService tokenVersionService,
+                                                                             MemberIdCache memberIdCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(memberIdCache, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        container.addMessageListener(tokenVersionService, new PatternTopic(TokenVersionService.KEYSPACE_CHANNEL_PATTERN));
+        return container;
     }
 }
@@ -0,0 +1,13 @@
+package yeonjae.snapguide.infrastructure.cache.twolevel;
+
+import java.util.List;
+
+/**
+ * 인스턴스 간 L1 캐시 무효화 메시지 (Redis pub/sub)
+ *
+ * @param origin    발행한 인스턴스 ID (자기 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param keys      무효화할 키 목록 (비어 있으면 캐시 전체 무효화)
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, List<String> keys) {
+}
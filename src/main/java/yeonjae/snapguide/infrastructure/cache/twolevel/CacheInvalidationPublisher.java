@@ -0,0 +1,41 @@
+package yeonjae.snapguide.infrastructure.cache.twolevel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화를 다른 인스턴스에 알리는 Redis pub/sub 발행기
+ * 발행 실패는 로그만 남김 (L1 TTL이 짧아 결국 만료됨)
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void publish(String cacheName, Collection<String> keys) {
+        try {
+            CacheInvalidationMessage message = new CacheInvalidationMessage(instanceId, cacheName, List.copyOf(keys));
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("[TwoLevelCache] Failed to publish invalidation for cache {} ({} keys)", cacheName, keys.size(), e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package yeonjae.snapguide.infrastructure.cache.twolevel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) CacheManager
+ *
+ * - L2는 기존 RedisCacheManager를 그대로 사용 (TTL, 직렬화 설정 유지)
+ * - L1은 캐시별 Caffeine, 값의 크기(컬렉션이면 원소 수)로 가중치를 매겨 maximumWeight로 제한
+ * - L1 TTL은 L2보다 짧게 두어 pub/sub 메시지가 유실돼도 오래된 값이 오래 남지 않도록 함
+ * - 다른 인스턴스의 무효화 메시지(CacheInvalidationPublisher.CHANNEL)를 받아 L1에서 제거
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final ObjectMapper objectMapper;
+    private final long localMaximumWeight;
+    private final Duration localExpireAfterWrite;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                RedisTemplate<String, Object> redisTemplate,
+                                ObjectMapper objectMapper,
+                                long localMaximumWeight,
+                                Duration localExpireAfterWrite) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationPublisher = new CacheInvalidationPublisher(redisTemplate, objectMapper);
+        this.localMaximumWeight = localMaximumWeight;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+            if (invalidationPublisher.getInstanceId().equals(invalidation.origin())) {
+                return;
+            }
+            TwoLevelCache cache = caches.get(invalidation.cacheName());
+            if (cache != null) {
+                cache.evictLocal(invalidation.keys());
+            }
+        } catch (Exception e) {
+            log.warn("[TwoLevelCache] Failed to handle invalidation message", e);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No remote cache for name: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumWeight(localMaximumWeight)
+                .weigher((String key, Object value) -> weightOf(value))
+                .expireAfterWrite(localExpireAfterWrite)
+                .build();
+        log.info("[TwoLevelCache] Created cache '{}' (L1 maxWeight={}, ttl={})",
+                name, localMaximumWeight, localExpireAfterWrite);
+        return new TwoLevelCache(name, local, remote, redisTemplate, invalidationPublisher);
+    }
+
+    private static int weightOf(Object value) {
+        // 근처 가이드 목록처럼 컬렉션은 원소 수만큼 무게를 줌 (큰 결과가 L1을 독점하지 않도록)
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,47 @@
+package yeonjae.snapguide.infrastructure.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 요청 1건의 인증 처리 기록 (RequestTraceSampler.start()로 생성)
+ *
+ * 단계별로 로그를 찍는 대신 필드를 모아 두었다가 끝날 때 한 줄로 남김
+ * 샘플링되지 않은 요청은 put()이 아무것도 하지 않음 (문자열/맵 생성 비용 없음)
+ */
+public final class RequestTrace {
+
+    private final String requestId;
+    private final boolean sampled;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Object> fields;
+
+    RequestTrace(String requestId, boolean sampled) {
+        this.requestId = requestId;
+        this.sampled = sampled;
+        this.fields = sampled ? new LinkedHashMap<>() : Map.of();
+    }
+
+    public String requestId() {
+        return requestId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public RequestTrace put(String key, Object value) {
+        if (sampled) {
+            fields.put(key, value);
+        }
+        return this;
+    }
+
+    Map<String, Object> fields() {
+        return fields;
+    }
+
+    long elapsedMicros() {
+        return (System.nanoTime() - startNanos) / 1_000;
+    }
+}
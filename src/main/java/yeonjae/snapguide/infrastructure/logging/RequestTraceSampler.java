@@ -0,0 +1,139 @@
+package yeonjae.snapguide.infrastructure.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 필터 등 매 요청 실행되는 경로용 샘플링 로그
+ *
+ * - 요청마다 request_id를 MDC에 넣어 같은 요청의 로그를 묶음 (OpenTelemetry trace_id가 있으면 그대로 사용)
+ * - 정상 요청은 초당 successPerSecond건, 실패(토큰 오류 등)는 초당 failurePerSecond건까지만 로그
+ * - 로그는 요청당 1줄, 필드는 key-value로 남김 (JSON 인코더 / OTLP 속성)
+ * - 호출 클래스의 logger로 남기므로 기존 logger 레벨 설정을 그대로 따름
+ *
+ * 메트릭:
+ * - request.trace.logs{result=emitted|suppressed} : 남긴 / 생략한 로그 수
+ * - request.trace.log.time : 로그 1줄을 남기는 데 걸린 시간
+ */
+@Component
+public class RequestTraceSampler {
+
+    public static final String REQUEST_ID_MDC_KEY = "request_id";
+    private static final String TRACE_ID_MDC_KEY = "trace_id";
+
+    private final PerSecondLimiter successLimiter;
+    private final PerSecondLimiter failureLimiter;
+    private final Counter emitted;
+    private final Counter suppressed;
+    private final Timer logTime;
+
+    public RequestTraceSampler(MeterRegistry meterRegistry,
+                               @Value("${logging.request-trace.success-per-second:5}") int successPerSecond,
+                               @Value("${logging.request-trace.failure-per-second:50}") int failurePerSecond) {
+        this.successLimiter = new PerSecondLimiter(successPerSecond);
+        this.failureLimiter = new PerSecondLimiter(failurePerSecond);
+        this.emitted = Counter.builder("request.trace.logs").tag("result", "emitted").register(meterRegistry);
+        this.suppressed = Counter.builder("request.trace.logs").tag("result", "suppressed").register(meterRegistry);
+        this.logTime = Timer.builder("request.trace.log.time").register(meterRegistry);
+    }
+
+    /**
+     * 요청 시작: request_id를 MDC에 넣고 정상 요청 샘플링 여부 결정
+     * 반드시 finally에서 clear() 호출
+     */
+    public RequestTrace start(HttpServletRequest request) {
+        String traceId = MDC.get(TRACE_ID_MDC_KEY);
+        String requestId = traceId != null ? traceId : UUID.randomUUID().toString();
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+
+        RequestTrace trace = new RequestTrace(requestId, successLimiter.tryAcquire());
+        return trace.put("method", request.getMethod())
+                .put("uri", request.getRequestURI());
+    }
+
+    /**
+     * 정상 처리: 샘플링된 요청만 INFO 1줄 (호출 측에서 응답 후 status를 넣고 호출)
+     */
+    public void success(Logger target, RequestTrace trace, String outcome) {
+        if (!trace.isSampled()) {
+            suppressed.increment();
+            return;
+        }
+        emit(target, Level.INFO, trace, outcome, null);
+    }
+
+    /**
+     * 실패: 샘플링 여부와 무관하게 초당 failurePerSecond건까지 WARN 1줄
+     */
+    public void failure(Logger target, RequestTrace trace, String outcome, String detail) {
+        if (!failureLimiter.tryAcquire()) {
+            suppressed.increment();
+            return;
+        }
+        emit(target, Level.WARN, trace, outcome, detail);
+    }
+
+    public void clear() {
+        MDC.remove(REQUEST_ID_MDC_KEY);
+    }
+
+    private void emit(Logger target, Level level, RequestTrace trace, String outcome, String detail) {
+        long start = System.nanoTime();
+        long elapsedMicros = trace.elapsedMicros();
+        LoggingEventBuilder event = target.atLevel(level)
+                .setMessage("[RequestTrace] {} {}")
+                .addArgument(outcome)
+                .addArgument(elapsedMicros + "us")
+                .addKeyValue(REQUEST_ID_MDC_KEY, trace.requestId())
+                .addKeyValue("outcome", outcome)
+                .addKeyValue("latency_us", elapsedMicros);
+        for (Map.Entry<String, Object> field : trace.fields().entrySet()) {
+            event = event.addKeyValue(field.getKey(), field.getValue());
+        }
+        if (detail != null) {
+            event = event.addKeyValue("detail", detail);
+        }
+        event.log();
+        logTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        emitted.increment();
+    }
+
+    /**
+     * 초 단위 고정 창 카운터 (lock-free, 창이 바뀌는 순간 약간 초과 허용)
+     */
+    static final class PerSecondLimiter {
+        private final int limit;
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        PerSecondLimiter(int limit) {
+            this.limit = limit;
+        }
+
+        boolean tryAcquire() {
+            if (limit <= 0) {
+                return false;
+            }
+            long now = System.currentTimeMillis() / 1000;
+            long current = window.get();
+            if (current != now && window.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import yeonjae.snapguide.repository.locationRepository.GeoUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위경도 고정 격자(grid) 기반 인메모리 공간 인덱스
+ *
+ * - 좌표를 cellSizeDegrees 크기의 셀로 나눠 셀 → ID 집합으로 저장
+ * - 반경 검색: Bounding Box에 걸치는 셀만 순회 후 하버사인으로 정확히 필터링
+ * - 읽기는 lock-free, 쓰기(put/remove)는 드물기 때문에 synchronized로 단순하게 처리
+ *
+ * NOTE : 경도 ±180 경계(날짜 변경선)는 고려하지 않음 (서비스 지역이 한국/일본 중심)
+ */
+public class GeoGridIndex {
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+    public record Entry(long id, double lat, double lng) {}
+
+    public record Hit(long id, double distanceKm) {}
+
+    public GeoGridIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("cellSizeDegrees must be positive: " + cellSizeDegrees);
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public synchronized void put(long id, double lat, double lng) {
+        Entry previous = entries.put(id, new Entry(id, lat, lng));
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(cellKey(lat, lng), k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    public synchronized void remove(long id) {
+        Entry previous = entries.remove(id);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 중심 좌표에서 radiusKm 이내의 항목을 가까운 순(거리 → id)으로 반환
+     */
+    public List<Hit> findWithin(double lat, double lng, double radiusKm) {
+        double[] box = GeoUtil.getBoundingBox(lat, lng, radiusKm);
+        long minRow = row(box[0]), maxRow = row(box[1]);
+        long minCol = col(box[2]), maxCol = col(box[3]);
+
+        List<Hit> hits = new ArrayList<>();
+        long cellCount = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+
+        if (cellCount > cells.size()) {
+            // 반경이 인덱스 전체보다 넓으면 셀 순회보다 전체 스캔이 저렴함
+            for (Entry entry : entries.values()) {
+                collect(entry, lat, lng, radiusKm, hits);
+            }
+        } else {
+            for (long r = minRow; r <= maxRow; r++) {
+                for (long c = minCol; c <= maxCol; c++) {
+                    Set<Long> ids = cells.get(key(r, c));
+                    if (ids == null) {
+                        continue;
+                    }
+                    for (Long id : ids) {
+                        Entry entry = entries.get(id);
+                        if (entry != null) {
+                            collect(entry, lat, lng, radiusKm, hits);
+                        }
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingLong(Hit::id));
+        return hits;
+    }
+
+    private void collect(Entry entry, double lat, double lng, double radiusKm, List<Hit> hits) {
+        double distance = GeoUtil.haversine(lat, lng, entry.lat(), entry.lng());
+        if (distance <= radiusKm) {
+            hits.add(new Hit(entry.id(), distance));
+        }
+    }
+
+    private void removeFromCell(Entry entry) {
+        long key = cellKey(entry.lat(), entry.lng());
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(entry.id());
+            if (ids.isEmpty()) {
+                cells.remove(key, ids);
+            }
+        }
+    }
+
+    private long cellKey(double lat, double lng) {
+        return key(row(lat), col(lng));
+    }
+
+    private long row(double lat) {
+        return (long) Math.floor(lat / cellSizeDegrees);
+    }
+
+    private long col(double lng) {
+        return (long) Math.floor(lng / cellSizeDegrees);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,70 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import yeonjae.snapguide.repository.locationRepository.GeoUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도 고정 크기 타일 (캐시 키 / 무효화 범위 계산용)
+ *
+ * - 타일 = (row, col) = (floor(lat / size), floor(lng / size))
+ * - 같은 타일 안의 검색 중심은 같은 캐시 키를 공유
+ * - 어떤 좌표가 변경되면, 그 좌표가 반경 안에 들어올 수 있는 타일만 무효화
+ *
+ * NOTE : 경도 ±180 경계(날짜 변경선)는 고려하지 않음 (GeoGridIndex와 동일)
+ */
+public record GeoTile(long row, long col) {
+
+    // 타일 경계 근처 좌표의 부동소수점 오차 보정용 여유 (km)
+    private static final double MARGIN_KM = 0.05;
+
+    public static GeoTile of(double lat, double lng, double sizeDegrees) {
+        return new GeoTile((long) Math.floor(lat / sizeDegrees), (long) Math.floor(lng / sizeDegrees));
+    }
+
+    /**
+     * (lat, lng)가 반경 radiusKm 안에 들어올 수 있는 검색 중심 타일 목록
+     * = 타일 사각형과 (lat, lng) 사이의 최단 거리가 radiusKm 이하인 타일
+     *
+     * @param limit 후보 타일이 이보다 많으면 null 반환 (호출 측에서 전체 무효화로 대체)
+     */
+    public static List<GeoTile> tilesWithin(double lat, double lng, double radiusKm,
+                                            double sizeDegrees, int limit) {
+        double[] box = GeoUtil.getBoundingBox(lat, lng, radiusKm + MARGIN_KM);
+        GeoTile min = of(box[0], box[2], sizeDegrees);
+        GeoTile max = of(box[1], box[3], sizeDegrees);
+
+        long candidates = (max.row - min.row + 1) * (max.col - min.col + 1);
+        if (candidates <= 0 || candidates > limit * 2L) {
+            return null;
+        }
+
+        List<GeoTile> tiles = new ArrayList<>();
+        for (long r = min.row; r <= max.row; r++) {
+            for (long c = min.col; c <= max.col; c++) {
+                GeoTile tile = new GeoTile(r, c);
+                if (tile.distanceKmTo(lat, lng, sizeDegrees) <= radiusKm + MARGIN_KM) {
+                    if (tiles.size() == limit) {
+                        return null;
+                    }
+                    tiles.add(tile);
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * 타일 사각형에서 (lat, lng)까지의 최단 거리 (km, 타일 안이면 0)
+     */
+    public double distanceKmTo(double lat, double lng, double sizeDegrees) {
+        double nearestLat = clamp(lat, row * sizeDegrees, (row + 1) * sizeDegrees);
+        double nearestLng = clamp(lng, col * sizeDegrees, (col + 1) * sizeDegrees);
+        return GeoUtil.haversine(lat, lng, nearestLat, nearestLng);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,137 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import yeonjae.snapguide.domain.guide.GuideChangedEvent;
+import yeonjae.snapguide.repository.guideRepository.GuidePointView;
+import yeonjae.snapguide.repository.guideRepository.GuideRepository;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 위치가 있는 Guide 전체를 메모리에 올려두는 공간 인덱스
+ *
+ * findGuidesNear의 반경 검색(findNearbyOptimized)을 PostGIS 대신 메모리에서 처리하여
+ * 캐시 미스 시 DB 왕복을 1회 줄인다.
+ *
+ * 갱신 방식:
+ * 1. 애플리케이션 기동 시 전체 적재 (Projection 조회 1회)
+ * 2. Guide 생성/수정/삭제 커밋 후 GuideChangedEvent로 증분 반영
+ * 3. 주기적 전체 재적재 (다른 인스턴스에서 발생한 변경 반영용)
+ *
+ * 적재 전이거나 비활성화된 경우 isReady() == false → 호출 측에서 DB 쿼리로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideSpatialIndex {
+
+    private final GuideRepository guideRepository;
+
+    @Value("${guide.spatial-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${guide.spatial-index.cell-size-degrees:0.05}")
+    private double cellSizeDegrees;
+
+    private volatile GeoGridIndex index;
+    private volatile boolean rebuilding = false;
+    // 재적재 도중 들어온 이벤트 (재적재 완료 후 새 인덱스에 다시 반영)
+    private final Queue<GuideChangedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    /**
+     * 반경(km) 내 Guide를 가까운 순으로 반환
+     */
+    public List<GeoGridIndex.Hit> findWithin(double lat, double lng, double radiusKm) {
+        GeoGridIndex current = index;
+        if (!enabled || current == null) {
+            throw new IllegalStateException("Guide spatial index is not ready");
+        }
+        return current.findWithin(lat, lng, radiusKm);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${guide.spatial-index.refresh-interval-ms:300000}",
+            initialDelayString = "${guide.spatial-index.refresh-interval-ms:300000}"
+    )
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 전체 (guideId, 좌표)를 다시 읽어 새 인덱스로 교체
+     * 실패하면 기존 인덱스를 유지 (최초 적재 실패 시에는 DB 폴백)
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            GeoGridIndex fresh = new GeoGridIndex(cellSizeDegrees);
+            for (GuidePointView view : guideRepository.findAllGuidePoints()) {
+                Point point = view.getCoordinate();
+                fresh.put(view.getGuideId(), point.getY(), point.getX()); // Point는 (x=lng, y=lat)
+            }
+            index = fresh;
+
+            GuideChangedEvent event;
+            while ((event = pendingEvents.poll()) != null) {
+                apply(fresh, event);
+            }
+            log.info("[GuideSpatialIndex] Rebuilt with {} guides in {}ms",
+                    fresh.size(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("[GuideSpatialIndex] Rebuild failed, keeping previous index", e);
+        } finally {
+            rebuilding = false;
+            pendingEvents.clear();
+        }
+    }
+
+    // 캐시 무효화(NearbyGuideCacheKeys)보다 먼저 → 무효화 직후 다시 캐시되는 결과가 갱신된 인덱스 기준
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding) {
+            pendingEvents.add(event);
+        }
+        GeoGridIndex current = index;
+        if (current != null) {
+            apply(current, event);
+        }
+    }
+
+    private void apply(GeoGridIndex target, GuideChangedEvent event) {
+        if (event.type() == GuideChangedEvent.ChangeType.DELETED || !event.hasCoordinate()) {
+            target.remove(event.guideId());
+        } else {
+            target.put(event.guideId(), event.coordinate().getY(), event.coordinate().getX());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.bean.CsvToBeanBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import yeonjae.snapguide.controller.initData.TourSpotDto;
+import yeonjae.snapguide.controller.initData.TourSpotJsonWrapper;
+import yeonjae.snapguide.controller.initData.kagglePOIData.POICsvRow;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 관광지/POI 데이터를 메모리에 올려두는 오프라인 역지오코딩용 인덱스 (LocationServiceOfflineImpl)
+ *
+ * - 데이터: data/koreaTourSpot.json (행정안전부 관광지), data/poi.csv (Kaggle POI, 없으면 건너뜀)
+ *   → LocationKrTourSpotTestData / LocationKaggleTestData가 DB에 넣는 것과 같은 파일
+ * - 관광지는 도로명(지번) 주소에서 시/도, 시, 구/군을 잘라 행정구역으로 사용
+ * - 기동 시 1회 적재, 데이터가 바뀌지 않으므로 재적재 없음
+ *
+ * 적재 전이거나 비활성화된 경우 isReady() == false → 호출 측에서 Google 역지오코딩으로 폴백
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OfflinePoiIndex {
+
+    public static final String TOUR_SPOT_PROVIDER = "행정안전부";
+    public static final String KAGGLE_PROVIDER = "kaggle";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${geocoding.offline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${geocoding.offline.cell-size-degrees:0.05}")
+    private double cellSizeDegrees;
+
+    @Value("${geocoding.offline.tour-spot-resource:data/koreaTourSpot.json}")
+    private String tourSpotResource;
+
+    @Value("${geocoding.offline.poi-csv-resource:data/poi.csv}")
+    private String poiCsvResource;
+
+    private volatile Snapshot snapshot;
+
+    public record Poi(String name, String address, String region, String city, String subRegion, String provider) {
+
+        public boolean hasRegion() {
+            return region != null;
+        }
+
+        /**
+         * 한국 주소 → 행정구역 (예: "경기도 수원시 팔달구 ..." → 경기도 / 수원시 / 팔달구)
+         */
+        public static Poi fromKoreanAddress(String name, String address, String provider) {
+            String[] tokens = address == null ? new String[0] : address.trim().split("\\s+");
+            String region = tokens.length > 0 && !tokens[0].isEmpty() ? tokens[0] : null;
+            String city = null;
+            String subRegion = null;
+            if (tokens.length > 1) {
+                if (tokens[1].endsWith("시")) {
+                    city = tokens[1];
+                    if (tokens.length > 2 && tokens[2].endsWith("구")) {
+                        subRegion = tokens[2];
+                    }
+                } else if (tokens[1].endsWith("군") || tokens[1].endsWith("구")) {
+                    subRegion = tokens[1];
+                }
+            }
+            return new Poi(name, address, region, city, subRegion, provider);
+        }
+    }
+
+    public record Match(Poi poi, double distanceKm) {}
+
+    private record Snapshot(GeoGridIndex index, List<Poi> pois) {}
+
+    public boolean isReady() {
+        return enabled && snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.pois().size();
+    }
+
+    /**
+     * radiusKm 안에서 가장 가까운 POI (이름이 있는 것)
+     */
+    public Optional<Match> nearestPoi(double lat, double lng, double radiusKm) {
+        return nearest(lat, lng, radiusKm, poi -> poi.name() != null);
+    }
+
+    /**
+     * radiusKm 안에서 가장 가까운, 행정구역을 아는 POI
+     */
+    public Optional<Match> nearestRegion(double lat, double lng, double radiusKm) {
+        return nearest(lat, lng, radiusKm, Poi::hasRegion);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Poi> pois = new ArrayList<>();
+        List<double[]> coordinates = new ArrayList<>();
+        loadTourSpots(pois, coordinates);
+        loadKagglePois(pois, coordinates);
+        load(pois, coordinates);
+        log.info("[OfflinePoiIndex] Loaded {} POIs in {}ms", pois.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @param coordinates pois와 같은 순서의 {lat, lng}
+     */
+    public void load(List<Poi> pois, List<double[]> coordinates) {
+        GeoGridIndex index = new GeoGridIndex(cellSizeDegrees);
+        for (int i = 0; i < pois.size(); i++) {
+            index.put(i, coordinates.get(i)[0], coordinates.get(i)[1]);
+        }
+        snapshot = new Snapshot(index, List.copyOf(pois));
+    }
+
+    private Optional<Match> nearest(double lat, double lng, double radiusKm, Predicate<Poi> filter) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null) {
+            return Optional.empty();
+        }
+        for (GeoGridIndex.Hit hit : current.index().findWithin(lat, lng, radiusKm)) { // 가까운 순
+            Poi poi = current.pois().get((int) hit.id());
+            if (filter.test(poi)) {
+                return Optional.of(new Match(poi, hit.distanceKm()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void loadTourSpots(List<Poi> pois, List<double[]> coordinates) {
+        ClassPathResource resource = new ClassPathResource(tourSpotResource);
+        if (!resource.exists()) {
+            log.warn("[OfflinePoiIndex] {} not found, skipping", tourSpotResource);
+            return;
+        }
+        try (InputStream is = resource.getInputStream()) {
+            List<TourSpotDto> spots = objectMapper.readValue(is, TourSpotJsonWrapper.class).getRecords();
+            for (TourSpotDto spot : spots) {
+                String address = spot.getRoadAddress() != null && !spot.getRoadAddress().isBlank()
+                        ? spot.getRoadAddress()
+                        : spot.getParcelAddress();
+                pois.add(Poi.fromKoreanAddress(spot.getName(), address, TOUR_SPOT_PROVIDER));
+                coordinates.add(new double[]{spot.getLatitude(), spot.getLongitude()});
+            }
+        } catch (Exception e) {
+            log.error("[OfflinePoiIndex] Failed to load {}", tourSpotResource, e);
+        }
+    }
+
+    private void loadKagglePois(List<Poi> pois, List<double[]> coordinates) {
+        ClassPathResource resource = new ClassPathResource(poiCsvResource);
+        if (!resource.exists()) {
+            log.info("[OfflinePoiIndex] {} not found, skipping", poiCsvResource);
+            return;
+        }
+        try (InputStreamReader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            List<POICsvRow> rows = new CsvToBeanBuilder<POICsvRow>(reader)
+                    .withType(POICsvRow.class)
+                    .withIgnoreLeadingWhiteSpace(true)
+                    .build()
+                    .parse();
+            for (POICsvRow row : rows) {
+                // 주소 정보가 없으므로 이름만 사용 (행정구역 없음)
+                pois.add(new Poi(row.getName(), null, null, null, null, KAGGLE_PROVIDER));
+                coordinates.add(new double[]{
+                        Math.toDegrees(row.getLatitudeRadian()), Math.toDegrees(row.getLongitudeRadian())});
+            }
+        } catch (Exception e) {
+            log.error("[OfflinePoiIndex] Failed to load {}", poiCsvResource, e);
+        }
+    }
+}
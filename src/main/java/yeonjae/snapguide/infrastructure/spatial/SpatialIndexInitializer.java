@@ -0,0 +1,35 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.repository.locationRepository.LocationRepository;
+
+/**
+ * ddl-auto로는 만들 수 없는 공간 인덱스(GiST)를 기동 시 생성 (이미 있으면 건너뜀)
+ * 실패해도 기동은 계속 (인덱스 없이 순차 스캔으로 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexInitializer {
+
+    private final LocationRepository locationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                locationRepository.createSpatialIndex();
+                locationRepository.createGeographySpatialIndex();
+            });
+            log.info("[SpatialIndex] location.coordinate GiST indexes (geometry, geography) ready");
+        } catch (Exception e) {
+            log.warn("[SpatialIndex] Failed to create location.coordinate GiST indexes", e);
+        }
+    }
+}
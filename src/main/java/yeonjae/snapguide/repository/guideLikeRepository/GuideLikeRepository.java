@@ -24,16 +24,52 @@ public interface GuideLikeRepository extends JpaRepository<GuideLike, Long> {
     /**
      * ID 기반 좋아요 삭제 (SELECT 없이 바로 DELETE)
      * @Query + @Modifying으로 SELECT 쿼리 없이 직접 DELETE 실행
+     * @return 삭제된 행 수 (동시에 취소한 경우 0)
      */
     @Modifying
     @Query("DELETE FROM GuideLike gl WHERE gl.member.id = :memberId AND gl.guide.id = :guideId")
-    void deleteByMemberIdAndGuideId(@Param("memberId") Long memberId, @Param("guideId") Long guideId);
+    int deleteByMemberIdAndGuideId(@Param("memberId") Long memberId, @Param("guideId") Long guideId);
 
     /**
      * 좋아요 존재 여부 확인 (COUNT 쿼리로 최적화)
      */
     boolean existsByMemberIdAndGuideId(Long memberId, Long guideId);
 
+    /**
+     * 좋아요 추가 + like_count 조회를 쿼리 1회로 (이미 있으면 changed = 0)
+     * Guide가 없으면 INSERT 없이 빈 결과 (FK 오류로 트랜잭션이 깨지지 않게)
+     * like_count는 GuideLikeCounter flush 전 값 → 호출하는 쪽에서 변화량을 더함
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO guide_like (member_id, guide_id)
+                SELECT :memberId, :guideId
+                WHERE EXISTS (SELECT 1 FROM guide WHERE id = :guideId)
+                  AND NOT EXISTS (SELECT 1 FROM guide_like WHERE member_id = :memberId AND guide_id = :guideId)
+                ON CONFLICT DO NOTHING
+                RETURNING id
+            )
+            SELECT g.id AS "guideId", g.like_count AS "likeCount", (SELECT COUNT(*) FROM inserted) AS "changed"
+            FROM guide g
+            WHERE g.id = :guideId
+            """, nativeQuery = true)
+    Optional<GuideLikeWriteView> likeReturningCount(@Param("memberId") Long memberId, @Param("guideId") Long guideId);
+
+    /**
+     * 좋아요 취소 + like_count 조회를 쿼리 1회로 (좋아요가 없었으면 changed = 0)
+     */
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM guide_like
+                WHERE member_id = :memberId AND guide_id = :guideId
+                RETURNING id
+            )
+            SELECT g.id AS "guideId", g.like_count AS "likeCount", (SELECT COUNT(*) FROM deleted) AS "changed"
+            FROM guide g
+            WHERE g.id = :guideId
+            """, nativeQuery = true)
+    Optional<GuideLikeWriteView> unlikeReturningCount(@Param("memberId") Long memberId, @Param("guideId") Long guideId);
+
     List<GuideLike> findAllByMember(Member member);
 
     List<GuideLike> findAllByGuide(Guide guide);
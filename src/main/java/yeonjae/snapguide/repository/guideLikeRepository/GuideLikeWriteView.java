@@ -0,0 +1,11 @@
+package yeonjae.snapguide.repository.guideLikeRepository;
+
+/**
+ * 좋아요 INSERT/DELETE 결과 + 해당 Guide의 like_count (쿼리 1회)
+ */
+public interface GuideLikeWriteView {
+    Long getGuideId();
+    Integer getLikeCount();
+    // 실제로 추가/삭제된 행 수 (0이면 이미 그 상태)
+    Long getChanged();
+}
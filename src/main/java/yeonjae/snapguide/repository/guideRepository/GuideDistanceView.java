@@ -0,0 +1,9 @@
+package yeonjae.snapguide.repository.guideRepository;
+
+/**
+ * 거리순 키셋 페이징용 Projection (Guide ID + 중심점으로부터의 거리)
+ */
+public interface GuideDistanceView {
+    Long getGuideId();
+    Double getDistanceKm();
+}
@@ -0,0 +1,164 @@
+package yeonjae.snapguide.repository.guideRepository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yeonjae.snapguide.domain.guide.GuideFeed;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * guide_feed 비정규화 테이블 (GuideFeedService가 갱신)
+ */
+public interface GuideFeedRepository extends JpaRepository<GuideFeed, Long> {
+
+    @Modifying
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_guide_feed_coordinate ON guide_feed USING GIST (coordinate)", nativeQuery = true)
+    void createSpatialIndex();
+
+    /**
+     * findNearest / findNearbyAfter의 구면 거리 KNN용
+     */
+    @Modifying
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_guide_feed_coordinate_geography ON guide_feed USING GIST ((CAST(coordinate AS geography)))", nativeQuery = true)
+    void createGeographySpatialIndex();
+
+    @Query(value = "SELECT id FROM guide ORDER BY id", nativeQuery = true)
+    List<Long> findAllGuideIds();
+
+    /**
+     * 원본(guide, member, location, media)에서 feed 행을 다시 만들어 upsert
+     * - 위치가 없는 Guide는 대상 아님 (deleteMissing으로 정리)
+     * - 내용이 같은 행은 UPDATE 하지 않음 (주기적 재구성 시 불필요한 쓰기 방지)
+     * @return INSERT/UPDATE된 행 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO guide_feed (guide_id, coordinate, tip, author_id, author_email, location_name, media, like_count, updated_at)
+        SELECT g.id, l.coordinate, g.tip, a.id, a.email, l.location_name,
+               COALESCE((
+                   SELECT jsonb_agg(jsonb_build_object('fileName', fm.media_name, 'url', fm.media_url) ORDER BY fm.id)
+                   FROM (
+                       SELECT m.id, m.media_name, m.media_url
+                       FROM media m
+                       WHERE m.guide_id = g.id
+                       ORDER BY m.id
+                       LIMIT :mediaLimit
+                   ) fm
+               ), CAST('[]' AS jsonb)),
+               g.like_count, now()
+        FROM guide g
+        JOIN member a ON a.id = g.member_id
+        JOIN location l ON l.id = g.location_id
+        WHERE g.id IN (:guideIds) AND l.coordinate IS NOT NULL
+        ON CONFLICT (guide_id) DO UPDATE SET
+            coordinate = EXCLUDED.coordinate,
+            tip = EXCLUDED.tip,
+            author_id = EXCLUDED.author_id,
+            author_email = EXCLUDED.author_email,
+            location_name = EXCLUDED.location_name,
+            media = EXCLUDED.media,
+            like_count = EXCLUDED.like_count,
+            updated_at = EXCLUDED.updated_at
+        WHERE (guide_feed.coordinate, guide_feed.tip, guide_feed.author_id, guide_feed.author_email,
+               guide_feed.location_name, guide_feed.media, guide_feed.like_count)
+              IS DISTINCT FROM
+              (EXCLUDED.coordinate, EXCLUDED.tip, EXCLUDED.author_id, EXCLUDED.author_email,
+               EXCLUDED.location_name, EXCLUDED.media, EXCLUDED.like_count)
+        """, nativeQuery = true)
+    int upsertFromSource(@Param("guideIds") Collection<Long> guideIds, @Param("mediaLimit") int mediaLimit);
+
+    /**
+     * 삭제됐거나 위치가 없어진 Guide의 feed 행 삭제 (guideIds 범위 안에서만)
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM guide_feed f
+        WHERE f.guide_id IN (:guideIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM guide g
+              JOIN location l ON l.id = g.location_id
+              WHERE g.id = f.guide_id AND l.coordinate IS NOT NULL
+          )
+        """, nativeQuery = true)
+    int deleteMissing(@Param("guideIds") Collection<Long> guideIds);
+
+    /**
+     * guide 테이블에 없는 feed 행 전체 삭제 (재구성 마지막 단계)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM guide_feed f WHERE NOT EXISTS (SELECT 1 FROM guide g WHERE g.id = f.guide_id)", nativeQuery = true)
+    int deleteOrphans();
+
+    /**
+     * GuideLikeCounter flush와 같은 트랜잭션에서 guide.like_count와 같은 변화량 반영
+     */
+    @Modifying
+    @Query(value = "UPDATE guide_feed SET like_count = GREATEST(like_count + :delta, 0) WHERE guide_id = :guideId", nativeQuery = true)
+    int addLikeCount(@Param("guideId") Long guideId, @Param("delta") long delta);
+
+    /**
+     * guide.like_count 보정 후 feed에도 같은 값 복사
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE guide_feed f
+        SET like_count = g.like_count
+        FROM guide g
+        WHERE g.id = f.guide_id AND f.guide_id IN (:guideIds) AND f.like_count <> g.like_count
+        """, nativeQuery = true)
+    int syncLikeCounts(@Param("guideIds") Collection<Long> guideIds);
+
+    @Query(value = """
+        SELECT f.guide_id AS "guideId", f.tip AS "tip", f.author_id AS "authorId", f.author_email AS "authorEmail",
+               f.location_name AS "locationName", CAST(f.media AS text) AS "media", f.like_count AS "likeCount"
+        FROM guide_feed f
+        WHERE f.guide_id IN (:guideIds)
+        """, nativeQuery = true)
+    List<GuideFeedView> findByGuideIds(@Param("guideIds") Collection<Long> guideIds);
+
+    /**
+     * 거리순 키셋 페이징 (GuideRepository.findNearbyGuideIdsAfter와 같은 geography 구면 거리, 같은 KNN 순서)
+     * idx_guide_feed_coordinate_geography를 거리 순으로 훑다가 limit개에서 멈추고, 응답 내용까지 한 테이블에서 조회 (조인 없음)
+     * 첫 페이지는 cursorDistance = -1, cursorId = 0 으로 호출
+     */
+    @Query(value = """
+        SELECT f.guide_id AS "guideId", f.tip AS "tip", f.author_id AS "authorId", f.author_email AS "authorEmail",
+               f.location_name AS "locationName", CAST(f.media AS text) AS "media", f.like_count AS "likeCount",
+               (CAST(f.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / 1000.0 AS "distanceKm"
+        FROM guide_feed f
+        WHERE ST_DWithin(CAST(f.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusKm * 1000.0, false)
+          AND ((CAST(f.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / 1000.0, f.guide_id)
+              > (:cursorDistance, :cursorId)
+        ORDER BY CAST(f.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), f.guide_id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<GuideFeedView> findNearbyAfter(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radiusKm") double radiusKm,
+            @Param("cursorDistance") double cursorDistance,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 가까운 Guide N개 (guide_feed만, guide가 있는 위치만 훑음)
+     * geography <-> 로 idx_guide_feed_coordinate_geography를 구면 거리 순으로 훑다가 limit개에서 멈춤
+     */
+    @Query(value = """
+        SELECT f.guide_id AS "guideId", f.tip AS "tip", f.author_id AS "authorId", f.author_email AS "authorEmail",
+               f.location_name AS "locationName", CAST(f.media AS text) AS "media", f.like_count AS "likeCount",
+               (CAST(f.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / 1000.0 AS "distanceKm"
+        FROM guide_feed f
+        ORDER BY CAST(f.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<GuideFeedView> findNearest(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("limit") int limit
+    );
+}
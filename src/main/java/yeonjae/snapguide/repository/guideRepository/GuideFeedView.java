@@ -0,0 +1,16 @@
+package yeonjae.snapguide.repository.guideRepository;
+
+/**
+ * guide_feed 조회용 Projection
+ * media는 jsonb를 text로 받은 JSON 배열, distanceKm는 반경 검색에서만 채워짐
+ */
+public interface GuideFeedView {
+    Long getGuideId();
+    String getTip();
+    Long getAuthorId();
+    String getAuthorEmail();
+    String getLocationName();
+    String getMedia();
+    Integer getLikeCount();
+    Double getDistanceKm();
+}
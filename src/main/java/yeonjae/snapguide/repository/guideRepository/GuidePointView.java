@@ -0,0 +1,12 @@
+package yeonjae.snapguide.repository.guideRepository;
+
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 인메모리 공간 인덱스 적재용 Projection
+ * Guide 엔티티를 로딩하지 않고 (guideId, 좌표)만 조회
+ */
+public interface GuidePointView {
+    Long getGuideId();
+    Point getCoordinate();
+}
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import yeonjae.snapguide.domain.guide.Guide;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,40 @@ public interface GuideRepository extends JpaRepository<Guide, Long>, GuideReposi
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("UPDATE Guide g SET g.likeCount = g.likeCount - 1 WHERE g.id = :guideId AND g.likeCount > 0")
     void decrementLikeCount(@Param("guideId") Long guideId);
+
+    /**
+     * 누적된 좋아요 변화량 반영 (GuideLikeCounter 주기적 flush)
+     * 음수로 내려가지 않게 0에서 멈춤
+     */
+    @Modifying
+    @Query(value = "UPDATE guide SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :guideId", nativeQuery = true)
+    int addLikeCount(@Param("guideId") Long guideId, @Param("delta") long delta);
+
+    /**
+     * like_count를 guide_like 실제 행 수로 보정 (값이 다른 Guide만 UPDATE)
+     * @return 보정된 Guide 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE guide g
+            SET like_count = actual.cnt
+            FROM (
+                SELECT g2.id AS guide_id, COUNT(gl.id) AS cnt
+                FROM guide g2
+                LEFT JOIN guide_like gl ON gl.guide_id = g2.id
+                WHERE g2.id IN (:guideIds)
+                GROUP BY g2.id
+            ) actual
+            WHERE g.id = actual.guide_id AND g.like_count <> actual.cnt
+            """, nativeQuery = true)
+    int reconcileLikeCounts(@Param("guideIds") Collection<Long> guideIds);
+
+    /**
+     * 전체 Guide id (GuideLikeCounter 전체 보정을 배치로 나눌 때 사용)
+     */
+    @Query("SELECT g.id FROM Guide g ORDER BY g.id")
+    List<Long> findAllIds();
+
     List<Guide> findByLocationIdIn(List<Long> locationIds);
 
     /**
@@ -44,6 +79,54 @@ public interface GuideRepository extends JpaRepository<Guide, Long>, GuideReposi
         """)
     List<Guide> findByLocationIdInWithFetch(@Param("locationIds") List<Long> locationIds);
 
+    /**
+     * Guide ID 목록으로 연관 엔티티 함께 조회
+     * 인메모리 공간 인덱스(GuideSpatialIndex)가 찾은 Guide ID를 바로 로딩할 때 사용
+     */
+    @Query("""
+        SELECT DISTINCT g FROM Guide g
+        LEFT JOIN FETCH g.mediaList
+        LEFT JOIN FETCH g.author
+        LEFT JOIN FETCH g.location
+        WHERE g.id IN :ids
+        """)
+    List<Guide> findByIdInWithFetch(@Param("ids") List<Long> ids);
+
+    /**
+     * 위치가 있는 모든 Guide의 (id, 좌표) 조회
+     * 엔티티 대신 Projection으로 가져와 인메모리 공간 인덱스 적재 비용 최소화
+     */
+    @Query("SELECT g.id AS guideId, l.coordinate AS coordinate FROM Guide g JOIN g.location l WHERE l.coordinate IS NOT NULL")
+    List<GuidePointView> findAllGuidePoints();
+
+    /**
+     * 거리순 키셋 페이징: (distanceKm, guideId)가 커서보다 뒤인 Guide를 limit개 조회
+     * - geography <-> 순서로 idx_location_coordinate_geography를 훑다가 limit개에서 멈춤 (반경 안 전체를 정렬하지 않음)
+     * - 반경은 ST_DWithin(구면, use_spheroid = false)으로 <->와 같은 구면 거리 기준
+     * - 거리(km)는 guide_feed 경로(GuideFeedRepository.findNearbyAfter)와 같은 식 → 경로가 바뀌어도 커서가 건너뛰거나 반복하지 않음
+     * - 커서 앞 행은 인덱스 순서대로 읽고 버림 (비용은 커서까지의 행 수 + 페이지 크기)
+     * - 첫 페이지는 cursorDistance = -1, cursorId = 0 으로 호출
+     */
+    @Query(value = """
+        SELECT g.id AS "guideId",
+               (CAST(l.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / 1000.0 AS "distanceKm"
+        FROM location l
+        JOIN guide g ON g.location_id = l.id
+        WHERE ST_DWithin(CAST(l.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radiusKm * 1000.0, false)
+          AND ((CAST(l.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / 1000.0, g.id)
+              > (:cursorDistance, :cursorId)
+        ORDER BY CAST(l.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), g.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<GuideDistanceView> findNearbyGuideIdsAfter(
+            @Param("lat") double lat,
+            @Param("lng") double lng,
+            @Param("radiusKm") double radiusKm,
+            @Param("cursorDistance") double cursorDistance,
+            @Param("cursorId") long cursorId,
+            @Param("limit") int limit
+    );
+
     /**
      * Guide 단건 조회 시 연관 엔티티 함께 조회
      */
@@ -2,8 +2,19 @@ package yeonjae.snapguide.repository.guideRepository;
 
 import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GuideRepositoryCustom {
     public List<GuideResponseDto> findAllByMemberId(Long memberId);
+
+    /**
+     * Guide ID 목록 → 응답 DTO (엔티티 로딩 없이 Projection, 순서는 보장하지 않음)
+     */
+    List<GuideResponseDto> findResponsesByIds(Collection<Long> guideIds);
+
+    /**
+     * Location ID 목록에 속한 Guide → 응답 DTO (엔티티 로딩 없이 Projection)
+     */
+    List<GuideResponseDto> findResponsesByLocationIds(Collection<Long> locationIds);
 }
@@ -3,6 +3,7 @@ package yeonjae.snapguide.repository.guideRepository;
 import com.querydsl.core.Tuple;
 //import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.group.GroupBy;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -19,8 +20,10 @@ import yeonjae.snapguide.domain.like.QGuideLike;
 import yeonjae.snapguide.domain.location.QLocation;
 import yeonjae.snapguide.domain.media.MediaDto;
 import yeonjae.snapguide.domain.media.QMedia;
+import yeonjae.snapguide.domain.member.QMember;
 import yeonjae.snapguide.domain.member.dto.MemberDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -164,4 +167,71 @@ public class GuideRepositoryCustomImpl implements GuideRepositoryCustom{
 
 
 
+    @Override
+    public List<GuideResponseDto> findResponsesByIds(Collection<Long> guideIds) {
+        if (guideIds.isEmpty()) {
+            return List.of();
+        }
+        return findResponses(QGuide.guide.id.in(guideIds));
+    }
+
+    @Override
+    public List<GuideResponseDto> findResponsesByLocationIds(Collection<Long> locationIds) {
+        if (locationIds.isEmpty()) {
+            return List.of();
+        }
+        return findResponses(QGuide.guide.location.id.in(locationIds));
+    }
+
+    /**
+     * 목록 조회용 읽기 경로 (fetch join 대신 Projection 2회)
+     * ① Guide + 작성자 + 위치 이름: 필요한 컬럼만, Guide당 1행 (mediaList fetch join의 행 곱 없음)
+     * ② 미디어: guide id로 묶어서 1쿼리
+     * 영속성 컨텍스트에 엔티티/스냅샷이 쌓이지 않음
+     */
+    private List<GuideResponseDto> findResponses(Predicate condition) {
+        QGuide g = QGuide.guide;
+        QMember a = QMember.member;
+        QLocation l = QLocation.location;
+        QMedia m = QMedia.media;
+
+        List<GuideRow> rows = queryFactory
+                .select(Projections.constructor(GuideRow.class,
+                        g.id, g.tip, a.id, a.email, l.locationName, g.likeCount))
+                .from(g)
+                .join(g.author, a)
+                .leftJoin(g.location, l)
+                .where(condition)
+                .fetch();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> guideIds = rows.stream().map(GuideRow::id).toList();
+        Map<Long, List<MediaDto>> mediaMap = queryFactory
+                .from(m)
+                .where(m.guide.id.in(guideIds))
+                .orderBy(m.id.asc())
+                .transform(GroupBy.groupBy(m.guide.id).as(
+                        GroupBy.list(Projections.constructor(MediaDto.class, m.mediaName, m.mediaUrl))
+                ));
+
+        return rows.stream()
+                .map(row -> GuideResponseDto.builder()
+                        .id(row.id())
+                        .tip(row.tip())
+                        .author(new MemberDto(row.authorId(), row.authorEmail()))
+                        .locationName(row.locationName())
+                        .media(mediaMap.getOrDefault(row.id(), List.of()))
+                        .likeCount(row.likeCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * ① 쿼리 결과 1행
+     */
+    public record GuideRow(Long id, String tip, Long authorId, String authorEmail, String locationName, Integer likeCount) {
+    }
+
 }
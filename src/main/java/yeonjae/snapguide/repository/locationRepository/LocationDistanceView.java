@@ -0,0 +1,9 @@
+package yeonjae.snapguide.repository.locationRepository;
+
+/**
+ * 반경 검색용 Projection (Location ID + 중심점으로부터의 거리)
+ */
+public interface LocationDistanceView {
+    Long getLocationId();
+    Double getDistanceMeters();
+}
@@ -2,9 +2,11 @@ package yeonjae.snapguide.repository.locationRepository;
 
 import org.locationtech.jts.geom.Point;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import yeonjae.snapguide.domain.location.Location;
+import yeonjae.snapguide.repository.guideRepository.GuideDistanceView;
 
 import java.util.List;
 
@@ -27,7 +29,10 @@ public interface LocationRepository extends JpaRepository<Location, Long>,  Loca
             @Param("lat") Double lat, @Param("lng") Double lng
     );
 
-
+    /**
+     * 컬럼에 ST_Transform을 걸어서 coordinate 인덱스를 못 씀 (전체 행 변환)
+     * 3857(Web Mercator)은 위도가 높을수록 거리가 늘어나서 반경도 정확하지 않음 → findNearbyGeography 사용
+     */
     @Query(value = """
     SELECT * FROM location
     WHERE ST_DWithin(
@@ -70,5 +75,73 @@ public interface LocationRepository extends JpaRepository<Location, Long>,  Loca
             @Param("maxLon") double maxLon
     );
 
+    /**
+     * coordinate GiST 인덱스 (반경 검색의 &&, KNN의 <-> 모두 이 인덱스 사용)
+     */
+    @Modifying
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_location_coordinate ON location USING GIST (coordinate)", nativeQuery = true)
+    void createSpatialIndex();
+
+    /**
+     * geography 함수 인덱스 (findNearbyGeography / findNearbyGuidesGeography의 CAST(coordinate AS geography)와 같은 식)
+     */
+    @Modifying
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_location_coordinate_geography ON location USING GIST ((CAST(coordinate AS geography)))", nativeQuery = true)
+    void createGeographySpatialIndex();
+
+    /**
+     * 반경(m) 안의 Location을 가까운 순으로 (geography, 회전타원체 기준 정확한 거리)
+     * - km → degree 변환 없이 미터 반경 그대로 ST_DWithin (경도 방향으로 늘어난 타원 X)
+     * - geography 함수 인덱스(idx_location_coordinate_geography)로 후보 검색
+     */
+    @Query(value = """
+    SELECT l.id AS "locationId",
+           ST_Distance(CAST(l.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography)) AS "distanceMeters"
+    FROM location l
+    WHERE ST_DWithin(CAST(l.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography), :radius)
+    ORDER BY "distanceMeters", l.id
+    """, nativeQuery = true)
+    List<LocationDistanceView> findNearbyGeography(
+            @Param("lat") double lat,
+            @Param("lon") double lon,
+            @Param("radius") double radiusInMeters
+    );
+
+    /**
+     * findNearbyGeography와 같은 조건으로 Guide ID + 거리(km)를 가까운 순으로
+     */
+    @Query(value = """
+    SELECT g.id AS "guideId",
+           ST_Distance(CAST(l.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography)) / 1000.0 AS "distanceKm"
+    FROM location l
+    JOIN guide g ON g.location_id = l.id
+    WHERE ST_DWithin(CAST(l.coordinate AS geography), CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography), :radius)
+    ORDER BY "distanceKm", g.id
+    """, nativeQuery = true)
+    List<GuideDistanceView> findNearbyGuidesGeography(
+            @Param("lat") double lat,
+            @Param("lon") double lon,
+            @Param("radius") double radiusInMeters
+    );
+
+    /**
+     * 가까운 Guide N개 (반경 제한 없음, guide_feed 준비 전/비활성화 시 폴백)
+     * - geography <-> : idx_location_coordinate_geography를 구면 거리 순으로 훑다가 limit개에서 멈춤 (재정렬 불필요)
+     * - location 인덱스를 훑으면서 guide가 없는 POI는 조인에서 걸러짐 → POI가 많은 지역은 guide_feed 쪽보다 많이 읽음
+     */
+    @Query(value = """
+    SELECT g.id AS "guideId",
+           (CAST(l.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography)) / 1000.0 AS "distanceKm"
+    FROM location l
+    JOIN guide g ON g.location_id = l.id
+    WHERE l.coordinate IS NOT NULL
+    ORDER BY CAST(l.coordinate AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lon, :lat), 4326) AS geography)
+    LIMIT :limit
+    """, nativeQuery = true)
+    List<GuideDistanceView> findNearestGuides(
+            @Param("lat") double lat,
+            @Param("lon") double lon,
+            @Param("limit") int limit
+    );
 
 }
@@ -0,0 +1,42 @@
+package yeonjae.snapguide.repository.mediaRepository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import yeonjae.snapguide.domain.media.DerivativeJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DerivativeJobRepository extends JpaRepository<DerivativeJob, Long> {
+
+    /**
+     * 실행할 작업을 잠그고 조회 (다른 인스턴스가 잠근 행은 건너뜀)
+     * 임대가 만료된 RUNNING(작업 중 인스턴스 종료 등)도 다시 가져감
+     */
+    @Query(value = """
+            SELECT * FROM derivative_job
+            WHERE status IN ('PENDING', 'RUNNING') AND next_run_at <= :now
+            ORDER BY next_run_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<DerivativeJob> lockDueJobs(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 파생 파일이 없고 작업도 없는 Media에 작업 등록 (여러 인스턴스가 동시에 실행해도 중복 없음)
+     * baseFileName은 원본 키의 파일명(확장자 제외) = 업로드 시 생성한 UUID
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO derivative_job (media_id, base_file_name, original_key, status, attempts, next_run_at, created_at, updated_at)
+            SELECT m.id, coalesce(substring(m.original_key from '([^/]+)\\.[^./]+$'), 'media-' || m.id), m.original_key, 'PENDING', 0, now(), now(), now()
+            FROM media m
+            WHERE m.thumbnail_key IS NULL AND m.original_key IS NOT NULL
+              AND NOT EXISTS (SELECT 1 FROM derivative_job j WHERE j.media_id = m.id)
+            LIMIT :limit
+            ON CONFLICT (media_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueueMissingDerivatives(@Param("limit") int limit);
+}
@@ -18,6 +18,13 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m LEFT JOIN FETCH m.authority WHERE m.email = :email")
     Optional<Member> findByEmailWithAuthority(@Param("email") String email);
 
+    /**
+     * id만 조회 (엔티티 로딩 없음)
+     * MemberIdCache 미스 시 사용
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
 //    Optional<Member> findByLoginId(String loginId);
 
     Boolean existsByEmail(String email);
@@ -22,7 +22,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import yeonjae.snapguide.exception.CustomException;
 import yeonjae.snapguide.exception.ErrorCode;
 import yeonjae.snapguide.exception.ErrorResponse;
-import yeonjae.snapguide.service.TokenBlacklistService;
+import yeonjae.snapguide.infrastructure.logging.RequestTrace;
+import yeonjae.snapguide.infrastructure.logging.RequestTraceSampler;
 
 import java.io.IOException;
 @Slf4j
@@ -33,65 +34,63 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
     private final JwtTokenProvider jwtTokenProvider;
     private final RequestMatcher whiteListMatcher;
-    private final TokenBlacklistService tokenBlacklistService;
+    private final RequestTraceSampler requestTraceSampler;
 
     private final String UTF_8 = "utf-8";
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)  throws ServletException, IOException {
 
-        log.info("1️⃣ [doFilterInternal] 요청 URI: {}", request.getRequestURI());
-        log.info("2️⃣ [doFilterInternal] 요청 Method: {}", request.getMethod());
-        log.info("3️⃣ [doFilterInternal] request: class={}, hashCode={}", request.getClass().getSimpleName(), System.identityHashCode(request));
-        log.info("4️⃣ [doFilterInternal] response: class={}, hashCode={}", response.getClass().getSimpleName(), System.identityHashCode(response));
-        log.info("5️⃣ [doFilterInternal] filterChain: class={}, hashCode={}", filterChain.getClass().getSimpleName(), System.identityHashCode(filterChain));
-
-
         if (!whiteListMatcher.matches(request)) {
             // 화이트리스트 요청은 필터 생략
             filterChain.doFilter(request, response);
             return;
         }
 
+        // 단계별 INFO 로그 대신 요청당 1줄, 샘플링해서 남김 (토큰 원문/Authorization 헤더는 남기지 않음)
+        RequestTrace trace = requestTraceSampler.start(request);
+        boolean authenticated = false;
         try {
             // 1. Request Header 로부터 Access Token을 추출한다.
             String token = jwtTokenProvider.resolveToken(request);
-            log.info("1️⃣ 들어온 요청 URI: {}", request.getRequestURI());
-            log.info("🔍 auth 헤더: {}", request.getHeader(AUTHORIZATION_HEADER));
-            log.info("2️⃣ 추출된 토큰: {}", token);
+            trace.put("hasToken", token != null);
             // 2. 추출한 Token의 유효성 검증 및 사용자 정보 파싱
+            // (폐기된 토큰은 getAuthentication에서 토큰 세대(ver)로 걸러짐)
             if (token != null && jwtTokenProvider.validateToken(token)) {
-                if (!tokenBlacklistService.isAccessTokenBlacklisted(token)) {
-                    log.info("토큰은 블랙리스트에 없음 (정상)");
-                    // Token이 유효할 경우, Authentication 객체를 생성하여 SecurityContext에 저장한다.
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                    // 4. SecurityContext에 인증 정보 저장
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } else {
-                    log.warn("블랙리스트에 있는 토큰입니다. 요청 차단");
-                    throw new CustomException(ErrorCode.INVALID_TOKEN);
-                }
-
+                // Token이 유효할 경우, Authentication 객체를 생성하여 SecurityContext에 저장한다.
+                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                // 4. SecurityContext에 인증 정보 저장
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             // 5. 다음 필터로 진행
             filterChain.doFilter(request, response);
+            // 체인이 정상 종료된 경우만 성공 로그 (체인 예외는 실패 로그만 남김)
+            authenticated = true;
         } catch (CustomException e) {
 //            throw e;
             // 예외를 다시 던지는 대신, 직접 에러 응답을 생성하고 반환합니다.
+            requestTraceSampler.failure(log, trace, e.getErrorCode().name(), e.getErrorCode().getMessage());
             setErrorResponse(response, e.getErrorCode());
         }
         catch (ExpiredJwtException e) {
-            log.warn("JWT 토큰이 만료되었습니다.");
+            requestTraceSampler.failure(log, trace, ErrorCode.EXPIRED_TOKEN.name(), "JWT 토큰이 만료되었습니다.");
             throw new CustomException(ErrorCode.EXPIRED_TOKEN);
         } catch (JwtException | IllegalArgumentException e) {
-            log.warn("유효하지 않은 JWT 토큰입니다.");
+            requestTraceSampler.failure(log, trace, ErrorCode.INVALID_TOKEN.name(), "유효하지 않은 JWT 토큰입니다.");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         } catch (UsernameNotFoundException e) {
-            log.warn("유저를 찾을 수 없습니다.");
+            requestTraceSampler.failure(log, trace, ErrorCode.USER_NOT_FOUND.name(), "유저를 찾을 수 없습니다.");
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         } catch (Exception e) {
             log.error("인증 필터에서 예외 발생", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } finally {
+            // 정상 요청 로그는 체인 실행 후에 남김 (응답 상태 + 체인 포함 전체 지연)
+            if (authenticated) {
+                trace.put("status", response.getStatus());
+                requestTraceSampler.success(log, trace, "authenticated");
+            }
+            requestTraceSampler.clear();
         }
     }
 
@@ -99,7 +98,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private void setErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
         response.setContentType("application/json;charset=UTF-8");
         response.setStatus(errorCode.getStatus().value()); // ErrorCode enum에 정의된 HTTP 상태 코드 사용
-        log.info("[setErrorResponse] : response.setStatus = " + errorCode.getStatus().value());
+        log.debug("[setErrorResponse] : response.setStatus = {}", errorCode.getStatus().value());
 
         // ObjectMapper를 사용하여 ErrorResponse 객체를 JSON 문자열로 변환
         ObjectMapper objectMapper = new ObjectMapper();
@@ -1,5 +1,8 @@
 package yeonjae.snapguide.security.authentication.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -18,19 +21,33 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import yeonjae.snapguide.exception.CustomException;
 import yeonjae.snapguide.exception.ErrorCode;
+import yeonjae.snapguide.service.TokenVersionService;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
     private final SecretKey key;
+    // 서명 검증 parser는 thread-safe → 한 번만 생성해서 재사용
+    private final JwtParser parser;
+    /**
+     * 서명 검증을 통과한 토큰 캐시 (key = 토큰 SHA-256)
+     * 같은 토큰으로 오는 요청은 만료 전까지 HMAC 검증/JSON 파싱 없이 Claims, Authentication 재사용
+     * 토큰 세대(ver) 폐기 확인은 캐시와 무관하게 매 요청 수행 (getAuthentication → TokenVersionService.isRevoked)
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     // AccessToken 유효기간 설정 : 30분
     @Value("${jwt.access-token-expiration}")
@@ -43,10 +60,49 @@ public class JwtTokenProvider {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer";
+    // 사용자별 토큰 세대 (TokenVersionService), 이보다 높은 version이 있으면 폐기된 토큰
+    public static final String VERSION_CLAIM = "ver";
+
+    private final TokenVersionService tokenVersionService;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize,
+                            TokenVersionService tokenVersionService) {
+        this.tokenVersionService = tokenVersionService;
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(token.remainingMillis()); // 토큰 만료 시점까지만 보관
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 검증된 토큰의 Claims와 (권한 정보가 있으면) 복원한 Authentication
+     */
+    private record VerifiedToken(Claims claims, Authentication authentication) {
+        long remainingMillis() {
+            Date expiration = claims.getExpiration();
+            return expiration == null ? 0 : Math.max(0, expiration.getTime() - System.currentTimeMillis());
+        }
     }
 
     public JwtToken createAccessToken(Collection<? extends GrantedAuthority> authorityInfo,
@@ -64,6 +120,7 @@ public class JwtTokenProvider {
                 .issuedAt(new Date(now))
                 .expiration(accessTokenExpiresIn)
                 .claim(AUTHORIZATION_HEADER, authorities)
+                .claim(VERSION_CLAIM, tokenVersionService.issueVersion(id))
                 .signWith(key)
 //                .signWith(key, SignatureAlgorithm.HS256) // 알고리즘은 키에서 추론하는 것으로 변경됨
                 .compact();
@@ -81,15 +138,11 @@ public class JwtTokenProvider {
     // TODO : 매개변수 확인, 좀 된 코드에서는 Authentication authentication 으로 받아서 .getAuthorities().stream()으로 가져오네
     public JwtToken generateToken(Collection<? extends GrantedAuthority> authorityInfo,
                                    String id) {
-        System.out.println("Authority info: " + authorityInfo); // 디버깅용
         // 사용자의 권한 정보들을 모아 문자열로 만든다.
         String authorities = authorityInfo.stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(",")); // "MEMBER,ADMIN"
-        log.info("token authorities : " + authorities);
-        for (GrantedAuthority authority : authorityInfo) {
-            log.info("권한: " + authority.getAuthority());
-        }
+        log.debug("token authorities : {}", authorities);
 
         long now = (new Date()).getTime();
 
@@ -100,6 +153,7 @@ public class JwtTokenProvider {
                 .issuedAt(new Date(now))
                 .expiration(accessTokenExpiresIn)
                 .claim(AUTHORIZATION_HEADER, authorities)
+                .claim(VERSION_CLAIM, tokenVersionService.issueVersion(id))
                 .signWith(key)
 //                .signWith(key, SignatureAlgorithm.HS256) // 알고리즘은 키에서 추론하는 것으로 변경됨
                 .compact();
@@ -121,16 +175,52 @@ public class JwtTokenProvider {
 
     // Access Token에 들어있는 정보를 꺼내 Authentication 객체를 생성 후 반환한다.
     public Authentication getAuthentication(String token) {
-        // 토큰의 Payload에 저장된 Claim들을 추출한다. (토큰 복호화)
-        Claims claims = parseClaims(token);
-        log.info("token authorities : " + claims.toString());
+        // 토큰의 Payload에 저장된 Claim들을 추출한다. (토큰 복호화, 검증된 토큰이면 캐시 사용)
+        VerifiedToken verified;
+        try {
+            verified = verify(token);
+        } catch (ExpiredJwtException e) {
+            log.debug("만료된 토큰 (getAuthentication) - 생성일자: {}, 만료시간: {}",
+                    e.getClaims().getIssuedAt(), e.getClaims().getExpiration());
+            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        }
 
-        if (claims.get(AUTHORIZATION_HEADER) == null) {
-            log.info("권한 정보 없는 토큰");
+        if (verified.authentication() == null) {
+            log.debug("권한 정보 없는 토큰");
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        // 캐시된 토큰도 매번 확인 (로컬 조회, 폐기 후 바로 반영)
+        if (tokenVersionService.isRevoked(verified.claims().getSubject(), versionOf(verified.claims()))) {
+            log.debug("폐기된 토큰 (version)");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
+        return verified.authentication();
+    }
+
+    /**
+     * 서명/만료 검증 후 Claims와 Authentication을 만들어 캐시 (만료 시 ExpiredJwtException 그대로 전달)
+     */
+    private VerifiedToken verify(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.remainingMillis() > 0) {
+            return cached;
+        }
 
-        // Claim에서 권한 정보를 추출한다.
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        log.debug("[verify] 토큰 생성일자 (issuedAt): {}, 만료시간 (expiration): {}",
+                claims.getIssuedAt(), claims.getExpiration());
+
+        VerifiedToken verified = new VerifiedToken(claims, toAuthentication(claims));
+        verifiedTokens.put(tokenHash, verified);
+        return verified;
+    }
+
+    // Claim에서 권한 정보를 추출한다. (권한 정보가 없으면 null, 예: RefreshToken)
+    private static Authentication toAuthentication(Claims claims) {
+        if (claims.get(AUTHORIZATION_HEADER) == null) {
+            return null;
+        }
         // 1. "MEMBER,ADMIN" → [SimpleGrantedAuthority("MEMBER"), ...]
         /**
          * https://guswls28.tistory.com/137 의 getAuthentication 메서드 설명 참고
@@ -140,7 +230,6 @@ public class JwtTokenProvider {
                 .map(String::trim)
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
-        log.info("복원된 권한들: {}", authorities);
 
         // Claim에 저장된 사용자 아이디를 통해 UserDetails 객체를 생성해서
         UserDetails principal = new User(claims.getSubject(), "", authorities);
@@ -148,24 +237,18 @@ public class JwtTokenProvider {
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
-    private Claims parseClaims(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            // ✅ 토큰 생성일자와 만료시간 로그 출력
-            log.info("[parseClaims] 토큰 생성일자 (issuedAt): {}", claims.getIssuedAt());
-            log.info("[parseClaims] 토큰 만료시간 (expiration): {}", claims.getExpiration());
-
-            return claims;
+    // version claim이 없는 이전 토큰은 0
+    private static long versionOf(Claims claims) {
+        Object version = claims.get(VERSION_CLAIM);
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
 
-        } catch (ExpiredJwtException e) {
-            log.info("만료된 토큰 (parseClaims) - 생성일자: {}, 만료시간: {}",
-                    e.getClaims().getIssuedAt(), e.getClaims().getExpiration());
-            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256은 모든 JVM에서 지원
         }
     }
 
@@ -175,11 +258,7 @@ public class JwtTokenProvider {
      */
     public Claims parseExpiredToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.info("만료된 토큰에서 Claims 추출 - 생성일자: {}, 만료시간: {}",
                     e.getClaims().getIssuedAt(), e.getClaims().getExpiration());
@@ -190,37 +269,30 @@ public class JwtTokenProvider {
     // 토큰 검증 메서드
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            log.info("validateToken true 반환");
+            verify(token);
+            log.debug("validateToken true 반환");
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            log.info("잘못된 JWT 서명입니다.");
+            log.debug("잘못된 JWT 서명입니다.");
             throw new CustomException(ErrorCode.INVALID_SIGNATURE);
         } catch (ExpiredJwtException e) {
-            log.info("JWT 토큰이 만료되었습니다.");
-            log.info("토큰 생성일자 : {}", parseClaims(token).getIssuedAt());
-            log.info("토큰 만료시간 : {}", parseClaims(token).getExpiration());
+            log.debug("JWT 토큰이 만료되었습니다.");
+            log.debug("토큰 생성일자 : {}", e.getClaims().getIssuedAt());
+            log.debug("토큰 만료시간 : {}", e.getClaims().getExpiration());
             throw new CustomException(ErrorCode.EXPIRED_TOKEN);
         } catch (UnsupportedJwtException e) {
-            log.info("지원되지 않는 JWT 토큰입니다.");
+            log.debug("지원되지 않는 JWT 토큰입니다.");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         } catch (IllegalArgumentException e) {
-            log.info("JWT 토큰이 잘못되었습니다.");
+            log.debug("JWT 토큰이 잘못되었습니다.");
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
     }
 
     public boolean refreshTokenPeriodCheck(String token) {
-        Jws<Claims> claimsJws =
-                Jwts.parser()
-                        .verifyWith(key)
-                        .build()
-                        .parseSignedClaims(token);
+        Claims claims = verify(token).claims();
         long now = (new Date()).getTime();
-        long refresh_expiredTime = claimsJws.getPayload().getExpiration().getTime();
+        long refresh_expiredTime = claims.getExpiration().getTime();
         long refresh_nowTime = new Date(now + expRefresh).getTime();
 
         if (refresh_nowTime - refresh_expiredTime > THREE_DAYS) {
@@ -235,16 +307,16 @@ public class JwtTokenProvider {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
 
         // TODO : 이부분 코드 해석 한번더
-        log.info("bearertoken : {}", bearerToken);
+        // 토큰 원문은 로그에 남기지 않음 (요청 단위 기록은 JwtAuthenticationFilter의 RequestTrace)
         if (StringUtils.hasText(bearerToken)) {
             if (bearerToken.startsWith(BEARER_PREFIX) && bearerToken.length() > 7) {
                 int tokenStartIndex = 7;
                 return bearerToken.substring(tokenStartIndex); // Bearer 접두사 제거
             }
-            log.info("토큰 예외 MalformedHeaderException");
+            log.debug("토큰 예외 MalformedHeaderException");
             throw new CustomException(ErrorCode.MALFORMED_HEADER);
         }
-        log.info("Authorization 헤더 없음 또는 빈 값");
+        log.debug("Authorization 헤더 없음 또는 빈 값");
         throw new CustomException(ErrorCode.MISSING_AUTH_HEADER);
     }
 
@@ -27,6 +27,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
 import yeonjae.snapguide.domain.member.Authority;
+import yeonjae.snapguide.infrastructure.logging.RequestTraceSampler;
 import yeonjae.snapguide.security.authentication.OAuth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import yeonjae.snapguide.security.authentication.OAuth2.OAuth2FailureHandler;
 import yeonjae.snapguide.security.authentication.OAuth2.OAuth2SuccessHandler;
@@ -38,7 +39,6 @@ import yeonjae.snapguide.security.constant.SecurityConstants;
 import yeonjae.snapguide.security.matcher.WhiteListRequestMatcher;
 import yeonjae.snapguide.service.CustomOauth2UserService;
 import yeonjae.snapguide.service.CustomUserDetailsService;
-import yeonjae.snapguide.service.TokenBlacklistService;
 
 @Configuration
 @EnableWebSecurity  // 스프링 시큐리티 필터가 스프링 필터체인에 등록이 된다.
@@ -51,7 +51,7 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
-    private final TokenBlacklistService tokenBlacklistService;
+    private final RequestTraceSampler requestTraceSampler;
 
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
@@ -161,7 +161,7 @@ public class SecurityConfig {
         final RequestMatcher matcher =
                 new WhiteListRequestMatcher(SecurityConstants.AuthenticationWhiteList.getAllPatterns());
 
-        final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, matcher, tokenBlacklistService);
+        final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenProvider, matcher, requestTraceSampler);
 
         // 선택: 인증 실패 시 동작 처리
 //        filter.setAuthenticationFailureHandler(
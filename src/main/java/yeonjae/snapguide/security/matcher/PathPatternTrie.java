@@ -0,0 +1,93 @@
+package yeonjae.snapguide.security.matcher;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로 세그먼트 단위 trie (화이트리스트 매칭용)
+ *
+ * 지원 패턴 (AntPathMatcher와 같은 의미):
+ * - 정확한 세그먼트 : /api/auth/login
+ * - 세그먼트 전체 "*" : 아무 세그먼트 1개
+ * - 마지막 "**"      : /uploads/**       → /uploads 자신과 그 아래 전부
+ *
+ * 패턴 수와 무관하게 경로 세그먼트 수만큼만 탐색 ("*"가 있는 노드에서만 되돌아감)
+ * 그 외 패턴("?", "{var}", "abc*", 중간의 "**")은 supports()가 false → 호출하는 쪽에서 별도 처리
+ */
+public final class PathPatternTrie {
+
+    private static final String SINGLE = "*";
+    private static final String REST = "**";
+
+    private final Node root = new Node();
+
+    public static boolean supports(String pattern) {
+        if (!pattern.startsWith("/")) {
+            return false;
+        }
+        String[] segments = split(pattern);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (REST.equals(segment)) {
+                if (i != segments.length - 1) {
+                    return false;
+                }
+            } else if (!SINGLE.equals(segment)
+                    && (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(String pattern) {
+        if (!supports(pattern)) {
+            throw new IllegalArgumentException("Unsupported path pattern: " + pattern);
+        }
+        Node node = root;
+        for (String segment : split(pattern)) {
+            if (REST.equals(segment)) {
+                node.matchesRest = true;
+                return;
+            }
+            node = node.children.computeIfAbsent(segment, key -> new Node());
+        }
+        node.terminal = true;
+    }
+
+    public boolean matches(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return false;
+        }
+        return matches(root, split(path), 0);
+    }
+
+    private static boolean matches(Node node, String[] segments, int index) {
+        if (node.matchesRest) {
+            return true;
+        }
+        if (index == segments.length) {
+            return node.terminal;
+        }
+        Node exact = node.children.get(segments[index]);
+        if (exact != null && matches(exact, segments, index + 1)) {
+            return true;
+        }
+        // "*"는 빈 세그먼트(//, 끝의 /)와는 매칭하지 않음
+        Node any = node.children.get(SINGLE);
+        return any != null && !segments[index].isEmpty() && matches(any, segments, index + 1);
+    }
+
+    /**
+     * 맨 앞 "/" 제외하고 분리, 끝의 "/"는 빈 세그먼트로 남김 ("/login/"은 "/login"과 다름)
+     */
+    private static String[] split(String path) {
+        return path.substring(1).split("/", -1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+        private boolean matchesRest;
+    }
+}
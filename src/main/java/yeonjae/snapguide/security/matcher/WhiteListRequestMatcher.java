@@ -5,26 +5,52 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.OrRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 화이트리스트 경로는 PathPatternTrie로 미리 컴파일 → 패턴 수와 무관하게 경로 길이만큼만 비교
+ * trie가 지원하지 않는 패턴만 기존처럼 AntPathRequestMatcher로 처리
+ *
+ * 결과는 캐시하지 않음 → forward/error 디스패치로 경로가 바뀌면 바뀐 경로 기준으로 다시 판단
+ */
 public class WhiteListRequestMatcher implements RequestMatcher {
 
-    private final OrRequestMatcher matcher;
+    private final PathPatternTrie trie = new PathPatternTrie();
+    private final RequestMatcher fallback;
 
     /**
      * Matches requests that are not in the WhiteList.
      */
     @Override
     public boolean matches(HttpServletRequest request) {
-        return !matcher.matches(request); // 화이트리스트에 포함되지 않은 요청에만 true
+        return !isWhiteListed(request); // 화이트리스트에 포함되지 않은 요청에만 true
     }
 
     public WhiteListRequestMatcher(List<String> whiteList) {
-        final List<RequestMatcher> requestMatchers = whiteList.stream()
-                // 경로 패턴에 맞게 변환, /api/user/**, /login, /index.html 같은 패턴 매칭을 지원
-                .map(AntPathRequestMatcher::new)
-                .collect(Collectors.toList());
-        this.matcher = new OrRequestMatcher(requestMatchers); // 여러 경로를 OR로 처리, 여러 개 중 하나라도 매칭되면 true
+        final List<RequestMatcher> fallbackMatchers = new ArrayList<>();
+        for (String pattern : whiteList) {
+            if (PathPatternTrie.supports(pattern)) {
+                trie.add(pattern);
+            } else {
+                // /api/user/**, /login 외의 패턴 ({var}, ?, 중간 ** 등)
+                fallbackMatchers.add(new AntPathRequestMatcher(pattern));
+            }
+        }
+        this.fallback = fallbackMatchers.isEmpty() ? null : new OrRequestMatcher(fallbackMatchers);
+    }
+
+    private boolean isWhiteListed(HttpServletRequest request) {
+        return trie.matches(requestPath(request))
+                || (fallback != null && fallback.matches(request));
+    }
+
+    /**
+     * AntPathRequestMatcher와 같은 기준 (servletPath + pathInfo, context path 제외)
+     */
+    private static String requestPath(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        return pathInfo != null ? path + pathInfo : path;
     }
 }
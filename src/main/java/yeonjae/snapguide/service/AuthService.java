@@ -49,7 +49,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
     private final RedisRefreshTokenRepository redisRefreshTokenRepository;
-    private final TokenBlacklistService tokenBlacklistService;
+    private final TokenVersionService tokenVersionService;
     private final PasswordEncoder passwordEncoder;
     private final OAuth2AuthorizationCodeRepository authCodeRepository;
 
@@ -119,14 +119,14 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        // 5. 기존 Access Token 블랙리스트 등록 (만료된 토큰도 처리)
+        // 5. 기존 Access Token 폐기 (사용자 토큰 version 증가, 이후 새 version으로 발급)
         long accessTokenExpiry = jwtTokenProvider.getExpiration(tokenRequestDTO.getAccessToken());
-        // 만료된 토큰의 경우 음수가 나오므로, 양수일 때만 블랙리스트 등록
+        // 만료된 토큰의 경우 음수가 나오므로, 아직 유효할 때만 폐기
         if (accessTokenExpiry > 0) {
-            tokenBlacklistService.blacklistAccessToken(tokenRequestDTO.getAccessToken(), accessTokenExpiry);
-            log.info("기존 Access Token 블랙리스트 등록 완료 (TTL: {}ms)", accessTokenExpiry);
+            tokenVersionService.revokeAll(userId);
+            log.info("기존 Access Token 폐기 완료 (남은 유효시간: {}ms)", accessTokenExpiry);
         } else {
-            log.info("Access Token 이미 만료됨 - 블랙리스트 등록 스킵");
+            log.info("Access Token 이미 만료됨 - 폐기 스킵");
         }
 
         // 6. 새로운 토큰 생성
@@ -138,15 +138,8 @@ public class AuthService {
                     .generateToken(authorities,  // 권한 정보
                             userId);        // 사용자 식별자
 
-            // 저장소 정보 업데이트
+            // 저장소 정보 업데이트 (기존 refreshToken은 저장값과 달라져서 4번 검사에서 거부됨)
             redisRefreshTokenRepository.save(refreshToken.updateValue(jwtToken.getRefreshToken()));
-
-            // 기존 refreshToken 블랙 리스트에 추가
-            long refreshTokenExpiry = jwtTokenProvider.getExpiration(tokenRequestDTO.getRefreshToken());
-            if (refreshTokenExpiry > 0) {
-                tokenBlacklistService.blacklistRefreshToken(tokenRequestDTO.getRefreshToken(), refreshTokenExpiry);
-                log.info("기존 Refresh Token 블랙리스트 등록 완료 (TTL: {}ms)", refreshTokenExpiry);
-            }
         } else {
             // Refresh Token의 유효기간이 3일 이상일 경우 Access Token만 재발급
             log.info("Refresh Token 유효기간 3일 이상 - Access Token만 재발급");
@@ -170,18 +163,10 @@ public class AuthService {
         Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
         String email = authentication.getName();
 
-        // 1. AccessToken 블랙리스트 등록 (만료 시각까지 TTL 설정)
-        long accessTokenExpiration = jwtTokenProvider.getExpiration(accessToken);
-        tokenBlacklistService.blacklistAccessToken(accessToken, accessTokenExpiration);
-
-        // 2. RefreshToken 블랙리스트 등록 (옵션)
-        String refreshToken = tokenRequestDto.getRefreshToken();
-        if (jwtTokenProvider.validateToken(refreshToken)) {
-            long refreshTokenExpiration = jwtTokenProvider.getExpiration(refreshToken);
-            tokenBlacklistService.blacklistRefreshToken(refreshToken, refreshTokenExpiration);
-        }
+        // 1. 사용자의 AccessToken 전부 폐기 (토큰 version 증가, 토큰별 블랙리스트 키를 만들지 않음)
+        tokenVersionService.revokeAll(email);
 
-        // 3. Redis에서 RefreshToken 삭제
+        // 2. Redis에서 RefreshToken 삭제 (재발급 시 저장값이 없어 거부됨)
         redisRefreshTokenRepository.deleteById(email);
         return email;
     }
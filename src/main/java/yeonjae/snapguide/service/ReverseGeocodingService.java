@@ -3,29 +3,72 @@ package yeonjae.snapguide.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import yeonjae.snapguide.domain.location.GeometryUtils;
 import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.domain.location.LocationDto;
-import yeonjae.snapguide.domain.location.LocationMapper;
+import yeonjae.snapguide.infrastructure.cache.geocode.CachedAddress;
+import yeonjae.snapguide.infrastructure.cache.geocode.GeocodeCellCache;
 import yeonjae.snapguide.service.config.GoogleMapsConfig;
 import yeonjae.snapguide.service.util.googleMapApiDto.AddressComponentDto;
 import yeonjae.snapguide.service.util.googleMapApiDto.GeocodingResponseDto;
 import yeonjae.snapguide.service.util.googleMapApiDto.GeocodingResultDto;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReverseGeocodingService {
     private final GoogleMapsConfig googleMapsConfig;
+    private final GeocodeCellCache geocodeCellCache;
     private final WebClient webClient = WebClient.create("https://maps.googleapis.com");
 
+    // 같은 셀에 대한 진행 중인 조회 (동시 요청은 캐시 조회/API 호출 1회로 합침)
+    private final ConcurrentHashMap<String, Mono<Resolved>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${geocoding.timeout-ms:3000}")
+    private long timeoutMs;
+
+    /**
+     * 좌표 → Location (비영속, 저장은 호출 측에서)
+     *
+     * - 좌표 셀(GeocodeCellCache) 단위로 캐시, 근처에서 찍은 사진은 API 호출 없이 주소 재사용
+     * - 같은 셀의 동시 요청은 진행 중인 하나의 Mono를 공유, 구독자마다 자기 좌표로 새 Location을 받음
+     * - timeoutMs 안에 응답이 없거나 오류면 좌표만 가진 Location 반환 (이 경우는 캐시하지 않음)
+     */
     public Mono<Location> reverseGeocode(double lat, double lng) {
+        String cellKey = geocodeCellCache.cellKey(lat, lng);
+        return Mono.defer(() -> inFlight.computeIfAbsent(cellKey, k -> resolve(k, lat, lng)
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache()))
+                .map(resolved -> resolved.address().toLocation(lat, lng, resolved.rawJson()))
+                .onErrorResume(e -> {
+                    log.warn("Reverse geocoding failed or timed out for ({}, {}). Storing coordinates only: {}",
+                            lat, lng, e.toString());
+                    return Mono.just(Location.builder()
+                            .coordinate(GeometryUtils.createPoint(lat, lng))
+                            .build());
+                });
+    }
+
+    private Mono<Resolved> resolve(String cellKey, double lat, double lng) {
+        return Mono.fromCallable(() -> geocodeCellCache.get(cellKey)) // null이면 empty
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(cached -> new Resolved(cached, null))
+                .switchIfEmpty(Mono.defer(() -> fetch(lat, lng)
+                        .publishOn(Schedulers.boundedElastic()) // Redis 쓰기는 이벤트 루프 밖에서
+                        .doOnNext(resolved -> geocodeCellCache.put(cellKey, resolved.address()))));
+    }
+
+    private Mono<Resolved> fetch(double lat, double lng) {
         log.info("[ReverseGeocodingService, reverseGeocode] : start");
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
@@ -38,41 +81,34 @@ public class ReverseGeocodingService {
                 .bodyToMono(String.class)
                 .map(json -> {
                     log.info("[ReverseGeocodingService] Google API 응답 JSON: {}", json);
+                    GeocodingResponseDto response;
                     try {
-                        ObjectMapper mapper = new ObjectMapper();
-                        GeocodingResponseDto response = mapper.readValue(json, GeocodingResponseDto.class);
+                        response = new ObjectMapper().readValue(json, GeocodingResponseDto.class);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Error during reverse geocoding", e); // 캐시하지 않고 좌표만 저장
+                    }
 
-                        log.info("[ReverseGeocodingService, reverseGeocode] : working");
+                    log.info("[ReverseGeocodingService, reverseGeocode] : working");
 
-                        // google geocoding api 사용량 초과 응답을 받을 경우 좌표 정보만 저장
-                        String status = response.getStatus();
+                    // google geocoding api 사용량 초과 응답을 받을 경우 좌표 정보만 저장 (짧게 negative cache)
+                    String status = response.getStatus();
 
-                        if ("OVER_QUERY_LIMIT".equals(status) || CollectionUtils.isEmpty(response.getResults())) {
-                            log.warn("Geocoding API quota exceeded or no results returned. Storing coordinates only.");
-                            return Location.builder()
-                                    .coordinate(GeometryUtils.createPoint(lat, lng))
-                                    .build();
-                        }// 주소 없이 좌표만 저장
+                    if ("OVER_QUERY_LIMIT".equals(status) || CollectionUtils.isEmpty(response.getResults())) {
+                        log.warn("Geocoding API quota exceeded or no results returned. Storing coordinates only.");
+                        return new Resolved(CachedAddress.notFound(), null);
+                    }// 주소 없이 좌표만 저장
 
+                    LocationDto dto = buildDtoFromResult(response.getResults().get(0), lat, lng);
+                    return new Resolved(CachedAddress.from(dto), json); // JSON 전체는 처음 조회한 Location에만 저장
+                })
+                .timeout(Duration.ofMillis(timeoutMs));
+    }
 
-                        return response.getResults().stream()
-                                .findFirst()
-                                .map(result -> {
-                                    LocationDto dto = buildDtoFromResult(result, lat, lng);
-                                    return LocationMapper.toEntityWithJson(dto, json); // toEntity만 하다가 JSON 전체 추가 저장을 위해 이렇게 함
-                                })
-                                .orElse(null);
+    /**
+     * 셀 단위 조회 결과 (캐시 적중 시 rawJson = null)
+     */
+    private record Resolved(CachedAddress address, String rawJson) {}
 
-                    } catch (Exception e) {
-                        log.error("Error during reverse geocoding", e);
-                        return Location.builder()
-//                                .latitude(lat)
-//                                .longitude(lng)
-                                .coordinate(GeometryUtils.createPoint(lat, lng))
-                                .build();
-                    }
-                });
-    }
 // 우선 한국용
     private LocationDto buildDtoFromResult(GeocodingResultDto result, double lat, double lng) {
         LocationDto.LocationDtoBuilder builder = LocationDto.builder()
@@ -0,0 +1,144 @@
+package yeonjae.snapguide.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * 사용자별 토큰 세대(version) 관리
+ *
+ * - AccessToken 발급 시 현재 version을 claim(JwtTokenProvider.VERSION_CLAIM)으로 넣음
+ * - 토큰의 version < 현재 version 이면 폐기된 토큰 → 사용자의 모든 토큰 폐기 = Redis INCR 1회
+ * - 토큰별 블랙리스트와 달리 Redis 사용량이 로그아웃 횟수가 아니라 사용자 수에 비례
+ *
+ * 요청마다 하는 폐기 확인(isRevoked)은 로컬 캐시 → 없을 때만 Redis GET
+ * 발급(issueVersion)은 항상 Redis에서 읽음 (다른 인스턴스에서 올린 version을 놓치면 발급 직후 토큰이 폐기로 판정됨)
+ * 다른 인스턴스의 변경은 Redis keyspace notification(KEY_PATTERN)을 받아 로컬 캐시에서 제거
+ * 알림이 유실돼도 localTtl 뒤에는 Redis에서 다시 읽음
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements MessageListener {
+
+    public static final String KEY_PREFIX = "token:version:";
+    // keyspace notification 채널 (예: "__keyspace@0__:token:version:user@example.com")
+    public static final String KEYSPACE_CHANNEL_PATTERN = "__keyspace@*__:" + KEY_PREFIX + "*";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean configureKeyspaceEvents;
+    private final Cache<String, Long> local;
+
+    public TokenVersionService(RedisTemplate<String, Object> redisTemplate,
+                               @Value("${token.version.configure-keyspace-events:true}") boolean configureKeyspaceEvents,
+                               @Value("${token.version.local-maximum-size:100000}") long localMaximumSize,
+                               @Value("${token.version.local-ttl-seconds:60}") long localTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.configureKeyspaceEvents = configureKeyspaceEvents;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 현재 version (한 번도 폐기한 적 없으면 0)
+     */
+    public long currentVersion(String subject) {
+        return local.get(subject, this::loadVersion);
+    }
+
+    /**
+     * 토큰 발급용 version: 로컬 캐시를 거치지 않고 Redis에서 읽고, 읽은 값으로 로컬 캐시도 갱신
+     */
+    public long issueVersion(String subject) {
+        long version = loadVersion(subject);
+        local.put(subject, version);
+        return version;
+    }
+
+    /**
+     * version이 현재보다 낮은 토큰은 폐기된 것 (version claim이 없는 이전 토큰은 0으로 취급)
+     */
+    public boolean isRevoked(String subject, long tokenVersion) {
+        return tokenVersion < currentVersion(subject);
+    }
+
+    /**
+     * 사용자의 기존 토큰 전부 폐기, 이후 발급되는 토큰은 새 version 사용
+     */
+    public long revokeAll(String subject) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + subject);
+        long next = version != null ? version : loadVersion(subject);
+        local.put(subject, next);
+        log.info("[TokenVersion] Revoked tokens of {} (version -> {})", subject, next);
+        return next;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int index = channel.indexOf(KEY_PREFIX);
+        if (index >= 0) {
+            local.invalidate(channel.substring(index + KEY_PREFIX.length()));
+        }
+    }
+
+    /**
+     * keyspace notification 활성화 (기존 설정에 K(keyspace) + $(string) + g(del/expire) 플래그 추가)
+     * 관리형 Redis처럼 CONFIG 명령이 막혀 있으면 로그만 남김 → 로컬 캐시 TTL로만 갱신
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableKeyspaceEvents() {
+        if (!configureKeyspaceEvents) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                String current = currentKeyspaceEvents(connection);
+                String merged = mergeFlags(current, "K$g");
+                if (!merged.equals(current)) {
+                    connection.serverCommands().setConfig("notify-keyspace-events", merged);
+                    log.info("[TokenVersion] notify-keyspace-events: '{}' -> '{}'", current, merged);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[TokenVersion] Could not enable keyspace notifications, relying on local TTL: {}", e.toString());
+        }
+    }
+
+    private Long loadVersion(String subject) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + subject);
+        return value == null ? 0L : Long.parseLong(value.toString());
+    }
+
+    private static String currentKeyspaceEvents(RedisConnection connection) {
+        Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+        return config == null ? "" : config.getProperty("notify-keyspace-events", "");
+    }
+
+    static String mergeFlags(String current, String required) {
+        StringBuilder merged = new StringBuilder(current);
+        boolean allEvents = current.indexOf('A') >= 0; // A = g$lshzxe...
+        for (char flag : required.toCharArray()) {
+            boolean covered = allEvents && flag != 'K' && flag != 'E';
+            if (!covered && merged.indexOf(String.valueOf(flag)) < 0) {
+                merged.append(flag);
+            }
+        }
+        return merged.toString();
+    }
+}
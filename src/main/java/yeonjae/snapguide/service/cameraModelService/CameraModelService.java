@@ -4,9 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.domain.cameraModel.CameraModel;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.CameraModelExtractor;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ExifExtractor;
-import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.repository.cameraModelRepository.CameraModelRepository;
 
 import java.io.ByteArrayInputStream;
@@ -19,10 +17,12 @@ import java.io.InputStream;
 public class CameraModelService {
     private final CameraModelRepository cameraModelRepository;
     public CameraModel save(byte[] imageBytes) {
-        // EXIF 메타데이터 추출
-        MediaMetaData metaData = ExifExtractor.extract(imageBytes);
+        return save(ParsedImageMetadata.parse(imageBytes));
+    }
+
+    public CameraModel save(ParsedImageMetadata metadata) {
         // 카메라 모델 추출 && 저장
-        CameraModel cameraModel = CameraModelExtractor.extract(imageBytes);
+        CameraModel cameraModel = metadata.toCameraModel();
         return cameraModelRepository.save(cameraModel); // HACK : 얘도 나중에 cascade Persist로?
     }
 }
@@ -1,18 +1,25 @@
 package yeonjae.snapguide.service.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
 
+    /**
+     * 파생 파일 생성용 (DerivativeJobService 작업자)
+     * 큐가 차면 예외로 알려서 작업을 DB 큐로 되돌림 (로그만 남기고 버리지 않음)
+     */
     @Bean(name = "fileProcessingExecutor")
     public Executor fileProcessingExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -20,8 +27,29 @@ public class AsyncConfig {
         executor.setMaxPoolSize(8);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("file-proc-");
-        executor.setRejectedExecutionHandler((r, e) ->
-            log.warn("File processing task rejected, queue full"));
+        executor.setRejectedExecutionHandler((r, e) -> {
+            log.warn("File processing task rejected, queue full");
+            throw new RejectedExecutionException("File processing queue full");
+        });
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 요청 내 파일별 병렬 처리용 (MediaService.saveAllAndGet)
+     * 요청 스레드가 결과를 기다리므로 작업을 버리면 안 됨 → 큐가 차면 요청 스레드에서 직접 실행 (CallerRuns)
+     */
+    @Bean(name = "uploadProcessingExecutor")
+    public Executor uploadProcessingExecutor(
+            @Value("${upload.parallel.core-pool-size:8}") int corePoolSize,
+            @Value("${upload.parallel.max-pool-size:16}") int maxPoolSize,
+            @Value("${upload.parallel.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
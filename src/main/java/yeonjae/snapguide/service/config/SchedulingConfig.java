@@ -0,0 +1,12 @@
+package yeonjae.snapguide.service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (인메모리 인덱스 주기적 재적재 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
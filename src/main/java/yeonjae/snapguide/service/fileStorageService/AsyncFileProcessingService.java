@@ -1,28 +1,35 @@
 package yeonjae.snapguide.service.fileStorageService;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.repository.mediaRepository.MediaRepository;
+import yeonjae.snapguide.service.guideSerivce.GuideFeedService;
+import yeonjae.snapguide.service.fileStorageService.fileConverter.ImagePyramid;
+import yeonjae.snapguide.service.fileStorageService.fileConverter.JpegPassThrough;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @Slf4j
 public class AsyncFileProcessingService {
 
     private final MediaRepository mediaRepository;
+    private final UploadSpillStore uploadSpillStore;
+    private final MediaVariants mediaVariants;
+    private final GuideFeedService guideFeedService;
 
     // S3용 (optional - Local 환경에서는 null)
     private final AmazonS3 amazonS3;
@@ -30,8 +37,14 @@ public class AsyncFileProcessingService {
     @Autowired
     public AsyncFileProcessingService(
             MediaRepository mediaRepository,
+            UploadSpillStore uploadSpillStore,
+            MediaVariants mediaVariants,
+            GuideFeedService guideFeedService,
             @Autowired(required = false) AmazonS3 amazonS3) {
         this.mediaRepository = mediaRepository;
+        this.uploadSpillStore = uploadSpillStore;
+        this.mediaVariants = mediaVariants;
+        this.guideFeedService = guideFeedService;
         this.amazonS3 = amazonS3;
     }
 
@@ -44,100 +57,134 @@ public class AsyncFileProcessingService {
     @Value("${storage.type:local}")
     private String storageType;
 
+    @Value("${derivative.variant-quality:0.7}")
+    private float variantQuality;
+
+    // JPEG가 아닌 원본(PNG 등)의 웹용 JPG 품질
+    @Value("${derivative.web-quality:0.9}")
+    private float webQuality;
+
     /**
-     * 비동기 파생 파일 생성 (트랜잭션 없음 - DB 커넥션 점유 최소화)
+     * 파생 파일 생성 (트랜잭션 없음 - DB 커넥션 점유 최소화)
      * 이미지 변환/업로드 중에는 DB 커넥션을 사용하지 않음
      * DB 업데이트는 별도 트랜잭션으로 처리
+     *
+     * DerivativeJobService 작업자 스레드(fileProcessingExecutor)에서 호출,
+     * 실패 시 예외를 그대로 던져 작업 큐에서 재시도하도록 함
+     *
+     * @param sourceFile 원본 파일 (삭제는 호출 측에서 관리)
      */
-    @Async("fileProcessingExecutor")
-    public void generateDerivativesAsync(Long mediaId, String baseFileName, byte[] originalBytes) {
+    public void generateDerivatives(Long mediaId, String baseFileName, Path sourceFile) throws Exception {
         log.info("[Async] Starting derivative generation for mediaId: {}", mediaId);
         long startTime = System.currentTimeMillis();
 
-        try {
-            if ("s3".equals(storageType)) {
-                generateS3Derivatives(mediaId, baseFileName, originalBytes);
-            } else {
-                generateLocalDerivatives(mediaId, baseFileName, originalBytes);
-            }
+        if ("s3".equals(storageType)) {
+            generateS3Derivatives(mediaId, baseFileName, sourceFile);
+        } else {
+            generateLocalDerivatives(mediaId, baseFileName, sourceFile);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("[Async] Derivative generation completed for mediaId: {} in {}ms", mediaId, elapsed);
+    }
 
-            long elapsed = System.currentTimeMillis() - startTime;
-            log.info("[Async] Derivative generation completed for mediaId: {} in {}ms", mediaId, elapsed);
+    /**
+     * 업로드 시 임시 파일이 없을 때(재시작, 다른 인스턴스) 저장소의 원본을 다시 가져옴
+     * S3는 임시 파일로 다운로드, 로컬은 원본 경로 그대로 사용
+     */
+    public Path fetchOriginal(String originalKey) throws Exception {
+        if (!"s3".equals(storageType)) {
+            return Paths.get(originalKey);
+        }
+        String extension = originalKey.substring(originalKey.lastIndexOf('.') + 1);
+        Path target = uploadSpillStore.newSpillFile(extension);
+        try {
+            amazonS3.getObject(new GetObjectRequest(bucketName, originalKey), target.toFile());
+            return target;
         } catch (Exception e) {
-            log.error("[Async] Failed to generate derivatives for mediaId: {}", mediaId, e);
+            uploadSpillStore.release(target);
+            throw e;
         }
     }
 
-    private void generateS3Derivatives(Long mediaId, String baseFileName, byte[] originalBytes) throws Exception {
+    private void generateS3Derivatives(Long mediaId, String baseFileName, Path sourceFile) throws Exception {
         String webKey = "images/web/" + baseFileName + ".jpg";
-        String thumbnailKey = "images/thumbnails/" + baseFileName + ".jpg";
-
-        // 1. 웹용 JPG 생성
-        log.info("[Async-S3] Creating web JPG...");
-        ByteArrayOutputStream webOutputStream = new ByteArrayOutputStream();
-        Thumbnails.of(new ByteArrayInputStream(originalBytes))
-                .scale(1.0)
-                .outputFormat("jpg")
-                .toOutputStream(webOutputStream);
-        byte[] webBytes = webOutputStream.toByteArray();
-
-        // 2. 썸네일 생성
-        log.info("[Async-S3] Creating thumbnail...");
-        ByteArrayOutputStream thumbOutputStream = new ByteArrayOutputStream();
-        Thumbnails.of(new ByteArrayInputStream(webBytes))
-                .size(1080, 1080)
-                .outputQuality(0.7)
-                .toOutputStream(thumbOutputStream);
-        byte[] thumbBytes = thumbOutputStream.toByteArray();
-
-        // 3. S3 업로드
-        log.info("[Async-S3] Uploading web JPG to S3...");
-        ObjectMetadata webMeta = createMetadata("image/jpeg", webBytes.length);
-        amazonS3.putObject(bucketName, webKey, new ByteArrayInputStream(webBytes), webMeta);
-        String webUrl = amazonS3.getUrl(bucketName, webKey).toString();
-
-        log.info("[Async-S3] Uploading thumbnail to S3...");
-        ObjectMetadata thumbMeta = createMetadata("image/jpeg", thumbBytes.length);
-        amazonS3.putObject(bucketName, thumbnailKey, new ByteArrayInputStream(thumbBytes), thumbMeta);
-        String thumbUrl = amazonS3.getUrl(bucketName, thumbnailKey).toString();
-
-        // 4. Media 엔티티 업데이트
-        updateMediaUrls(mediaId, webUrl, thumbUrl, webKey, thumbnailKey);
-    }
+        Path webFile = uploadSpillStore.newSpillFile("jpg");
+        Path variantFile = uploadSpillStore.newSpillFile("jpg");
 
-    private void generateLocalDerivatives(Long mediaId, String baseFileName, byte[] originalBytes) throws Exception {
-        Path thumbnailDir = Paths.get(uploadBasePath);
-        String thumbnailFileName = baseFileName + "_thumb.jpg";
+        try {
+            // 1. 웹용 JPG 생성 (JPEG 원본은 재인코딩 없이 메타데이터만 정리, 디코딩 없음)
+            log.info("[Async-S3] Creating web JPG...");
+            boolean passedThrough = JpegPassThrough.passThrough(sourceFile, webFile);
+
+            // 2. 원본 1회 디코딩 (웹용을 직접 인코딩해야 하면 원본 크기, 아니면 가장 큰 variant 기준으로 축소 디코딩)
+            BufferedImage full = ImagePyramid.decode(sourceFile, passedThrough ? mediaVariants.largest() : 0);
+            if (!passedThrough) {
+                ImagePyramid.writeJpeg(full, webQuality, webFile);
+            }
 
-        // 1. 썸네일 생성
-        log.info("[Async-Local] Creating thumbnail...");
-        ByteArrayOutputStream thumbOutputStream = new ByteArrayOutputStream();
-        Thumbnails.of(new ByteArrayInputStream(originalBytes))
-                .size(1080, 1080)
-                .outputQuality(0.7)
-                .toOutputStream(thumbOutputStream);
-        byte[] thumbBytes = thumbOutputStream.toByteArray();
+            log.info("[Async-S3] Uploading web JPG to S3...");
+            putFile(webKey, webFile);
+            String webUrl = amazonS3.getUrl(bucketName, webKey).toString();
+
+            // 3. 크기별 variant 생성 + 업로드 (같은 디렉토리라 /media/files/{base}_{size}.jpg 로 제공)
+            log.info("[Async-S3] Creating variants {}...", mediaVariants.sizes());
+            String thumbnailKey = null;
+            List<String> variantKeys = new ArrayList<>();
+            for (ImagePyramid.Variant variant : ImagePyramid.downscale(full, mediaVariants.sizes())) {
+                String key = "images/web/" + MediaVariants.fileName(baseFileName, variant.size());
+                ImagePyramid.writeJpeg(variant.image(), variantQuality, variantFile);
+                putFile(key, variantFile);
+                variantKeys.add(key);
+                if (variant.size() == mediaVariants.thumbnailSize()) {
+                    thumbnailKey = key;
+                }
+            }
 
-        // 2. 로컬 저장
-        Path thumbnailPath = thumbnailDir.resolve(thumbnailFileName);
-        Files.createDirectories(thumbnailPath.getParent());
-        Files.copy(new ByteArrayInputStream(thumbBytes), thumbnailPath, StandardCopyOption.REPLACE_EXISTING);
+            // 4. Media 엔티티 업데이트
+            updateMediaUrls(mediaId, webUrl, webKey, thumbnailKey, variantKeys);
+        } finally {
+            uploadSpillStore.release(webFile);
+            uploadSpillStore.release(variantFile);
+        }
+    }
 
-        log.info("[Async-Local] Thumbnail saved to: {}", thumbnailPath);
+    private void generateLocalDerivatives(Long mediaId, String baseFileName, Path sourceFile) throws Exception {
+        Path variantDir = Paths.get(uploadBasePath);
+        Files.createDirectories(variantDir);
+
+        // 1. 원본 1회 디코딩 후 크기별 variant 로컬 저장 (로컬은 원본이 웹용 역할)
+        log.info("[Async-Local] Creating variants {}...", mediaVariants.sizes());
+        BufferedImage full = ImagePyramid.decode(sourceFile, mediaVariants.largest());
+
+        Path thumbnailPath = null;
+        List<String> variantKeys = new ArrayList<>();
+        for (ImagePyramid.Variant variant : ImagePyramid.downscale(full, mediaVariants.sizes())) {
+            Path variantPath = variantDir.resolve(MediaVariants.fileName(baseFileName, variant.size()));
+            ImagePyramid.writeJpeg(variant.image(), variantQuality, variantPath);
+            variantKeys.add(variantPath.toString());
+            if (variant.size() == mediaVariants.thumbnailSize()) {
+                thumbnailPath = variantPath;
+            }
+        }
+        log.info("[Async-Local] Variants saved to: {}", variantDir);
 
-        // 3. Media 엔티티 업데이트 (로컬은 썸네일만)
-        updateMediaThumbnail(mediaId, thumbnailPath.toString(), "/media/files/" + thumbnailFileName);
+        // 2. Media 엔티티 업데이트 (로컬은 썸네일 + variant)
+        updateMediaThumbnail(mediaId, thumbnailPath.toString(),
+                "/media/files/" + thumbnailPath.getFileName(), variantKeys);
     }
 
     /**
      * DB 업데이트만 트랜잭션으로 처리 (커넥션 점유 최소화)
      */
     @Transactional
-    public void updateMediaUrls(Long mediaId, String webUrl, String thumbUrl, String webKey, String thumbnailKey) {
+    public void updateMediaUrls(Long mediaId, String webUrl, String webKey, String thumbnailKey, List<String> variantKeys) {
         mediaRepository.findById(mediaId).ifPresent(media -> {
             media.updateDerivativeUrls(webKey, thumbnailKey, "/media/files/" + extractFileName(webUrl));
+            media.updateVariantKeys(variantKeys);
             mediaRepository.save(media);
             log.info("[Async] Media {} URLs updated: web={}, thumb={}", mediaId, webKey, thumbnailKey);
+            refreshGuideFeed(media);
         });
     }
 
@@ -145,14 +192,31 @@ public class AsyncFileProcessingService {
      * DB 업데이트만 트랜잭션으로 처리 (커넥션 점유 최소화)
      */
     @Transactional
-    public void updateMediaThumbnail(Long mediaId, String thumbnailPath, String thumbnailUrl) {
+    public void updateMediaThumbnail(Long mediaId, String thumbnailPath, String thumbnailUrl, List<String> variantKeys) {
         mediaRepository.findById(mediaId).ifPresent(media -> {
             media.updateThumbnailUrl(thumbnailPath, thumbnailUrl);
+            media.updateVariantKeys(variantKeys);
             mediaRepository.save(media);
             log.info("[Async] Media {} thumbnail updated: {}", mediaId, thumbnailUrl);
+            refreshGuideFeed(media);
         });
     }
 
+    /**
+     * media URL이 바뀌었으니 guide_feed의 해당 Guide 행도 갱신
+     * (아직 Guide에 연결 전이면 연결 시점의 GuideChangedEvent에서 반영)
+     */
+    private void refreshGuideFeed(Media media) {
+        if (media.getGuide() != null) {
+            guideFeedService.refresh(List.of(media.getGuide().getId()));
+        }
+    }
+
+    private void putFile(String key, Path file) throws Exception {
+        ObjectMetadata metadata = createMetadata("image/jpeg", Files.size(file));
+        amazonS3.putObject(new PutObjectRequest(bucketName, key, file.toFile()).withMetadata(metadata));
+    }
+
     private String extractFileName(String url) {
         return Paths.get(url).getFileName().toString();
     }
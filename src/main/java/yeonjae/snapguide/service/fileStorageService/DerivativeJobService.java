@@ -0,0 +1,241 @@
+package yeonjae.snapguide.service.fileStorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.domain.media.DerivativeJob;
+import yeonjae.snapguide.domain.media.Media;
+import yeonjae.snapguide.repository.mediaRepository.DerivativeJobRepository;
+import yeonjae.snapguide.repository.mediaRepository.MediaRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 파생 파일(웹용/썸네일) 생성 작업 큐 (derivative_job 테이블)
+ *
+ * - 등록: Media 저장 트랜잭션 안에서 enqueue() → 커밋되면 작업도 반드시 남음
+ * - 실행: poll()이 실행할 작업을 SKIP LOCKED로 잠그고 임대(RUNNING)로 바꾼 뒤 fileProcessingExecutor에서 처리
+ *   작업자 수만큼만 가져오므로 큐가 넘쳐 작업이 버려지지 않음
+ * - 실패: 지수 backoff 후 재시도, maxAttempts 초과 시 FAILED
+ * - 재시작: 처리 중이던 작업은 임대 만료 후 다시 실행, 임시 파일이 없으면 저장소 원본에서 다시 받음
+ *   결과를 남기지 못한 시도(인스턴스 종료 등)도 시도 횟수에 포함 → maxAttempts를 채운 작업은 다시 가져갈 때 FAILED
+ * - 누락 정리: thumbnailKey가 비어 있고 작업도 없는 Media는 주기적으로 작업 등록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DerivativeJobService {
+
+    private final DerivativeJobRepository derivativeJobRepository;
+    private final MediaRepository mediaRepository;
+    private final AsyncFileProcessingService asyncFileProcessingService;
+    private final UploadSpillStore uploadSpillStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor fileProcessingExecutor;
+
+    @Value("${derivative.job.batch-size:8}")
+    private int batchSize;
+
+    @Value("${derivative.job.max-in-flight:16}")
+    private int maxInFlight;
+
+    @Value("${derivative.job.lease-seconds:600}")
+    private long leaseSeconds;
+
+    @Value("${derivative.job.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${derivative.job.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${derivative.job.backoff-max-seconds:1800}")
+    private long backoffMaxSeconds;
+
+    @Value("${derivative.job.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    // 이 인스턴스에서 실행 중인 작업 수 (executor 큐가 넘치지 않도록 가져오는 양 제한)
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    /**
+     * 작업 등록 (호출 측 트랜잭션 안에서 Media와 함께 커밋)
+     */
+    public void enqueue(Media media, UploadFileDto savedFile) {
+        Path sourceFile = savedFile.getSourceFile();
+        derivativeJobRepository.save(new DerivativeJob(
+                media.getId(),
+                savedFile.getBaseFileName(),
+                savedFile.getOriginalKey(),
+                sourceFile != null ? sourceFile.toString() : null
+        ));
+    }
+
+    /**
+     * 실행할 작업을 가져와 작업자에게 전달 (업로드 커밋 직후에도 바로 호출)
+     */
+    @Scheduled(fixedDelayString = "${derivative.job.poll-interval-ms:1000}")
+    public void poll() {
+        if (!pollLock.tryLock()) {
+            return; // 다른 스레드가 이미 가져가는 중
+        }
+        try {
+            int capacity = Math.min(batchSize, maxInFlight - inFlight.get());
+            if (capacity <= 0) {
+                return;
+            }
+            List<JobTask> claimed = transactionTemplate.execute(status -> claim(capacity));
+            claimed.forEach(this::dispatch);
+        } catch (Exception e) {
+            log.error("[DerivativeJob] Poll failed", e);
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    /**
+     * 파생 파일이 없는데 작업도 없는 Media 작업 등록 (작업 도입 전 업로드, 수동 삭제 등)
+     */
+    @Scheduled(
+            fixedDelayString = "${derivative.job.sweep-interval-ms:300000}",
+            initialDelayString = "${derivative.job.sweep-interval-ms:300000}"
+    )
+    public void sweepMissingDerivatives() {
+        try {
+            Integer enqueued = transactionTemplate.execute(
+                    status -> derivativeJobRepository.enqueueMissingDerivatives(sweepBatchSize));
+            if (enqueued != null && enqueued > 0) {
+                log.info("[DerivativeJob] Enqueued {} media without derivatives", enqueued);
+            }
+        } catch (Exception e) {
+            log.error("[DerivativeJob] Sweep failed", e);
+        }
+    }
+
+    private List<JobTask> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        List<JobTask> tasks = new ArrayList<>();
+        // 커밋 시 변경 감지로 반영
+        for (DerivativeJob job : derivativeJobRepository.lockDueJobs(now, limit)) {
+            if (job.getAttempts() >= maxAttempts) {
+                // 임대가 만료된 채 남은 마지막 시도 (작업 중 인스턴스 종료 등) → 더 가져가지 않음
+                job.fail("Lease expired after " + job.getAttempts() + " attempts");
+                log.error("[DerivativeJob] Job {} for media {} failed permanently, lease expired after {} attempts",
+                        job.getId(), job.getMediaId(), job.getAttempts());
+                releaseSourcePath(JobTask.from(job));
+                continue;
+            }
+            job.claim(leaseUntil);
+            tasks.add(JobTask.from(job));
+        }
+        return tasks;
+    }
+
+    private void dispatch(JobTask task) {
+        inFlight.incrementAndGet();
+        try {
+            fileProcessingExecutor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            log.warn("[DerivativeJob] Executor rejected job {}, returning to queue", task.id());
+            transactionTemplate.executeWithoutResult(
+                    status -> derivativeJobRepository.findById(task.id()).ifPresent(DerivativeJob::release));
+        }
+    }
+
+    private void run(JobTask task) {
+        Path source = null;
+        try {
+            if (!mediaRepository.existsById(task.mediaId())) {
+                log.info("[DerivativeJob] Media {} no longer exists, dropping job {}", task.mediaId(), task.id());
+                complete(task);
+                return;
+            }
+            source = resolveSource(task);
+            asyncFileProcessingService.generateDerivatives(task.mediaId(), task.baseFileName(), source);
+            complete(task);
+        } catch (Throwable e) {
+            // Error(OOM 등)도 실패로 기록 (놓치면 임대 만료마다 다시 실행됨)
+            onFailure(task, e);
+        } finally {
+            // 다시 받은 원본은 매번 삭제 (업로드 임시 파일은 재시도를 위해 완료/실패 확정 시에만 삭제)
+            if (source != null && !source.toString().equals(task.sourcePath())) {
+                uploadSpillStore.release(source);
+            }
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private Path resolveSource(JobTask task) throws Exception {
+        if (task.sourcePath() != null) {
+            Path sourceFile = Paths.get(task.sourcePath());
+            if (Files.isReadable(sourceFile)) {
+                return sourceFile;
+            }
+        }
+        return asyncFileProcessingService.fetchOriginal(task.originalKey());
+    }
+
+    private void complete(JobTask task) {
+        transactionTemplate.executeWithoutResult(status -> derivativeJobRepository.deleteById(task.id()));
+        releaseSourcePath(task);
+    }
+
+    private void onFailure(JobTask task, Throwable e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        boolean exhausted = task.attempts() >= maxAttempts;
+
+        transactionTemplate.executeWithoutResult(status ->
+                derivativeJobRepository.findById(task.id()).ifPresent(job -> {
+                    if (exhausted) {
+                        job.fail(error);
+                    } else {
+                        job.retryAt(LocalDateTime.now().plusSeconds(backoffSeconds(task.attempts())), error);
+                    }
+                }));
+
+        if (exhausted) {
+            log.error("[DerivativeJob] Job {} for media {} failed permanently after {} attempts",
+                    task.id(), task.mediaId(), task.attempts(), e);
+            releaseSourcePath(task);
+        } else {
+            log.warn("[DerivativeJob] Job {} for media {} failed (attempt {}/{}), retrying: {}",
+                    task.id(), task.mediaId(), task.attempts(), maxAttempts, error);
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        return Math.min(backoff, backoffMaxSeconds);
+    }
+
+    private void releaseSourcePath(JobTask task) {
+        if (task.sourcePath() != null) {
+            uploadSpillStore.release(Paths.get(task.sourcePath()));
+        }
+    }
+
+    /**
+     * 트랜잭션 밖(작업자 스레드)으로 넘기는 작업 정보 (엔티티를 직접 넘기지 않음)
+     */
+    private record JobTask(Long id, Long mediaId, String baseFileName, String originalKey,
+                           String sourcePath, int attempts) {
+        static JobTask from(DerivativeJob job) {
+            return new JobTask(job.getId(), job.getMediaId(), job.getBaseFileName(),
+                    job.getOriginalKey(), job.getSourcePath(), job.getAttempts());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 public interface FileStorageService {
     /**
@@ -27,9 +28,9 @@ public interface FileStorageService {
      * 파생 파일(썸네일, 웹용) 비동기 생성
      * @param mediaId Media 엔티티 ID (완료 후 업데이트용)
      * @param originalKey 원본 파일 키/경로
-     * @param originalBytes 원본 파일 바이트 (이미지 변환용)
+     * @param sourceFile 원본 파일 경로 (이미지 변환용)
      */
-    default void generateDerivativesAsync(Long mediaId, String originalKey, byte[] originalBytes) {
+    default void generateDerivativesAsync(Long mediaId, String originalKey, Path sourceFile) {
         // 기본 구현은 아무것도 안 함 (하위 호환성)
     }
 
@@ -8,7 +8,9 @@ import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.service.fileStorageService.fileConverter.HeicConverter;
+import yeonjae.snapguide.service.fileStorageService.fileConverter.JpegPassThrough;
 
 import java.io.*;
 import java.nio.file.Files;
@@ -45,7 +47,10 @@ public class LocalFileStorageService implements FileStorageService{
 
     /**
      * 원본 파일만 로컬에 저장 (동기 - 빠른 응답용)
-     * 썸네일은 AsyncFileProcessingService.generateDerivativesAsync()로 비동기 처리
+     * 썸네일은 DerivativeJobService(파생 파일 작업 큐)로 비동기 처리
+     *
+     * 로컬 원본은 /media/files/{uuid}.jpg로 그대로 공개되므로 EXIF(GPS, 기기 시리얼 등)를 지우고 저장
+     * 메타데이터는 지우기 전 임시 파일에서 읽어 parsedMetadata로 넘김 (회전 정보는 JpegPassThrough가 유지)
      */
     @Override
     public UploadFileDto uploadOriginalOnly(MultipartFile multipartFile) throws IOException {
@@ -54,20 +59,36 @@ public class LocalFileStorageService implements FileStorageService{
 
         String baseFileName = UUID.randomUUID().toString();
         String originalFileNameWithExt = baseFileName + ".jpg";
-
-        // 1. 이미지를 JPG로 변환
-        byte[] originalJpgBytes = convertToJpg(multipartFile);
-
-        // 2. 원본만 저장 (썸네일은 비동기로 나중에)
         Path originalPath = uploadOriginalDir.resolve(originalFileNameWithExt);
         Files.createDirectories(originalPath.getParent());
-        Files.copy(new ByteArrayInputStream(originalJpgBytes), originalPath, StandardCopyOption.REPLACE_EXISTING);
+
+        // 1. JPEG면 업로드 스트림을 그대로 임시 파일에 기록, 그 외는 JPG로 변환 후 기록
+        String mimeType;
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            mimeType = FileTypeDetector.detectMimeType(inputStream);
+        }
+        Path rawPath = uploadOriginalDir.resolve(baseFileName + ".raw");
+        ParsedImageMetadata parsedMetadata;
+        try {
+            if ("image/jpeg".equalsIgnoreCase(mimeType)) {
+                multipartFile.transferTo(rawPath);
+            } else {
+                Files.write(rawPath, convertToJpg(multipartFile));
+            }
+            // 2. 메타데이터를 읽은 뒤 EXIF/XMP/IPTC를 지운 사본만 공개 경로에 저장
+            parsedMetadata = ParsedImageMetadata.parse(rawPath);
+            JpegPassThrough.toWebJpg(rawPath, originalPath);
+        } finally {
+            Files.deleteIfExists(rawPath);
+        }
 
         long elapsed = System.currentTimeMillis() - startTime;
         log.info("[Fast Upload-Local] Completed in {}ms. Original: {}", elapsed, originalPath);
 
+        // 3. 원본만 저장 (썸네일은 비동기로 나중에, 저장된 원본 경로를 그대로 참조)
         return UploadFileDto.builder()
-                .originalFileBytes(originalJpgBytes)
+                .sourceFile(originalPath)
+                .parsedMetadata(parsedMetadata)
                 .originalDir(originalPath.toString())
                 .originalKey(originalPath.toString())
                 .baseFileName(baseFileName)
@@ -97,10 +118,10 @@ public class LocalFileStorageService implements FileStorageService{
         byte[] thumbnailBytes = thumbnailOutputStream.toByteArray();
 
         // 3. 결과물들을 로컬 디스크에 저장
-        // 원본 저장
+        // 원본 저장 (공개 경로라 메타데이터를 지운 사본, originalFileBytes는 메타데이터 파싱용으로 그대로 반환)
         Path originalPath = uploadOriginalDir.resolve(originalFileNameWithExt);
         Files.createDirectories(originalPath.getParent());
-        Files.copy(new ByteArrayInputStream(originalJpgBytes), originalPath, StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(new ByteArrayInputStream(JpegPassThrough.toWebJpg(originalJpgBytes)), originalPath, StandardCopyOption.REPLACE_EXISTING);
 
         // 썸네일 저장
         Path thumbnailPath = uploadThumbnailDir.resolve(thumbnailFileNameWithExt);
@@ -141,7 +162,13 @@ public class LocalFileStorageService implements FileStorageService{
             return heicConverter.convertToJpgBytes(new ByteArrayInputStream(imageBytes));
         }
 
-        // 4. 그 외 이미지(JPG, PNG 등)는 Thumbnails를 이용해 JPG로 통일합니다.
+        // 4. 이미 JPEG면 재인코딩 없이 원본 바이트 그대로 사용 (화질 손실/CPU 낭비 방지)
+        //    메타데이터 파싱용이라 EXIF 포함, 디스크에 쓸 때는 JpegPassThrough로 지움
+        if ("image/jpeg".equalsIgnoreCase(mimeType)) {
+            return imageBytes;
+        }
+
+        // 5. 그 외 이미지(PNG 등)는 Thumbnails를 이용해 JPG로 통일합니다.
         ByteArrayOutputStream jpgOutputStream = new ByteArrayOutputStream();
         // Thumbnails도 새로운 스트림을 받아 처리합니다.
         Thumbnails.of(new ByteArrayInputStream(imageBytes))
@@ -0,0 +1,72 @@
+package yeonjae.snapguide.service.fileStorageService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 크기별 파생 이미지(variant) 설정과 파일명 규칙
+ *
+ * 파일명: "{baseFileName}_{size}.jpg" (size = 긴 변 픽셀)
+ * - S3: images/web/ 아래, 로컬: storage.local.base-dir 아래 → 기존 /media/files/{filename} 으로 그대로 제공
+ * - 클라이언트는 mediaUrl에 ?size=320 을 붙여 작은 크기를 요청
+ */
+@Component
+public class MediaVariants {
+
+    // "{base}_{size}.jpg", 이전 로컬 썸네일 "{base}_thumb.jpg" 포함
+    private static final Pattern SUFFIX = Pattern.compile("_(\\d+|thumb)$");
+
+    private final List<Integer> sizes;
+    private final int thumbnailSize;
+
+    public MediaVariants(
+            @Value("${derivative.variant-sizes:320,720,1080}") List<Integer> variantSizes,
+            @Value("${derivative.thumbnail-size:1080}") int thumbnailSize) {
+        TreeSet<Integer> all = new TreeSet<>(variantSizes);
+        all.add(thumbnailSize); // 썸네일 크기는 항상 생성
+        this.sizes = List.copyOf(all);
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    /**
+     * 생성할 크기 목록 (오름차순)
+     */
+    public List<Integer> sizes() {
+        return sizes;
+    }
+
+    public int thumbnailSize() {
+        return thumbnailSize;
+    }
+
+    public int largest() {
+        return sizes.get(sizes.size() - 1);
+    }
+
+    /**
+     * 요청 크기 이상인 것 중 가장 작은 크기 (없으면 가장 큰 크기)
+     */
+    public int pick(int requested) {
+        return sizes.stream()
+                .filter(size -> size >= requested)
+                .findFirst()
+                .orElse(largest());
+    }
+
+    public static String fileName(String baseFileName, int size) {
+        return baseFileName + "_" + size + ".jpg";
+    }
+
+    /**
+     * 제공 중인 파일명에서 baseFileName 추출 (예: "uuid.jpg", "uuid_1080.jpg" → "uuid")
+     */
+    public static String baseFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String name = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return SUFFIX.matcher(name).replaceFirst("");
+    }
+}
@@ -4,6 +4,7 @@ import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
@@ -17,11 +18,15 @@ import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import yeonjae.snapguide.service.fileStorageService.fileConverter.JpegPassThrough;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
 import java.util.UUID;
 
@@ -33,13 +38,14 @@ import java.util.UUID;
 public class S3FileStorageService implements FileStorageService {
 
     private final AmazonS3 amazonS3;
+    private final UploadSpillStore uploadSpillStore;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
     /**
      * 원본 파일만 S3에 업로드 (동기 - 빠른 응답용)
-     * 웹용/썸네일은 AsyncFileProcessingService.generateDerivativesAsync()로 비동기 처리
+     * 웹용/썸네일은 DerivativeJobService(파생 파일 작업 큐)로 비동기 처리
      */
     @Override
     public UploadFileDto uploadOriginalOnly(MultipartFile file) throws IOException {
@@ -51,35 +57,42 @@ public class S3FileStorageService implements FileStorageService {
         log.info("[Fast Upload] Starting for: {}, Size: {} bytes", originalFileName, file.getSize());
         long startTime = System.currentTimeMillis();
 
+        Path spillFile = null;
         try {
-            // 1. Tika로 실제 파일 타입 감지
-            Tika tika = new Tika();
-            String mimeType = tika.detect(file.getInputStream());
+            // 1. Tika로 실제 파일 타입 감지 (앞부분만 읽음)
+            String mimeType;
+            try (InputStream inputStream = file.getInputStream()) {
+                mimeType = FileTypeDetector.detectMimeType(inputStream);
+            }
 
-            byte[] fileBytes = file.getBytes();
             String extension = getExtension(originalFileName);
+            String contentType = file.getContentType();
 
-            // 2. HEIC/HEIF인 경우 JPG 변환 (원본 저장 전에 필요)
+            // 2. 원본을 임시 파일로 한 번만 기록 (힙에 byte[]로 들고 다니지 않음)
+            //    HEIC/HEIF인 경우 JPG 변환 결과를 기록 (변환기는 byte[] 입력만 지원)
             if ("image/heic".equals(mimeType) || "image/heif".equals(mimeType)) {
                 log.info("[Fast Upload] HEIC detected, converting...");
-                fileBytes = convertHeicToJpg(fileBytes);
                 extension = "jpg";
+                contentType = "image/jpeg";
+                spillFile = uploadSpillStore.spill(convertHeicToJpg(file.getBytes()), extension);
+            } else {
+                spillFile = uploadSpillStore.spill(file, extension);
             }
 
             String baseFileName = UUID.randomUUID().toString();
             String originalKey = "images/originals/" + baseFileName + "." + extension;
 
-            // 3. 원본 파일만 S3 업로드 (1회만!)
-            ObjectMetadata metadata = createMetadata(file.getContentType(), fileBytes.length);
-            amazonS3.putObject(bucketName, originalKey, new ByteArrayInputStream(fileBytes), metadata);
+            // 3. 원본 파일만 S3 업로드 (1회만!, 임시 파일에서 스트리밍)
+            ObjectMetadata metadata = createMetadata(contentType, Files.size(spillFile));
+            amazonS3.putObject(new PutObjectRequest(bucketName, originalKey, spillFile.toFile()).withMetadata(metadata));
             String originalUrl = amazonS3.getUrl(bucketName, originalKey).toString();
 
             long elapsed = System.currentTimeMillis() - startTime;
             log.info("[Fast Upload] Completed in {}ms. Original: {}", elapsed, originalKey);
 
-            // 4. 원본 정보만 반환 (웹용/썸네일은 비동기로 나중에)
+            // 4. 원본 정보만 반환 (웹용/썸네일은 비동기로 나중에, 임시 파일은 파생 파일 생성 후 삭제)
             return UploadFileDto.builder()
-                    .originalFileBytes(fileBytes)
+                    .sourceFile(spillFile)
                     .originalDir(originalUrl)
                     .originalKey(originalKey)
                     .baseFileName(baseFileName)
@@ -88,6 +101,7 @@ public class S3FileStorageService implements FileStorageService {
                     .build();
 
         } catch (Exception e) {
+            uploadSpillStore.release(spillFile);
             log.error("[Fast Upload] Failed for: {}", originalFileName, e);
             throw new IOException("파일 업로드 중 오류가 발생했습니다: " + originalFileName, e);
         }
@@ -139,14 +153,9 @@ public class S3FileStorageService implements FileStorageService {
             String originalFileUrl = amazonS3.getUrl(bucketName, originalKey).toString();
             log.info(" -> Original file uploaded successfully.");
 
-            // 2. 웹용 고화질 JPG 생성 (변환되었거나 원래 이미지인 바이트 사용)
+            // 2. 웹용 고화질 JPG 생성 (변환되었거나 원래 이미지인 바이트 사용, JPEG는 재인코딩 없이 메타데이터만 정리)
             log.info("Step 2/5: Creating web-friendly JPG version...");
-            ByteArrayOutputStream webOriginalOutputStream = new ByteArrayOutputStream();
-            Thumbnails.of(new ByteArrayInputStream(fileBytes))
-                    .scale(1.0)
-                    .outputFormat("jpg")
-                    .toOutputStream(webOriginalOutputStream);
-            byte[] webOriginalImageBytes = webOriginalOutputStream.toByteArray();
+            byte[] webOriginalImageBytes = JpegPassThrough.toWebJpg(fileBytes);
 
             if (webOriginalImageBytes == null || webOriginalImageBytes.length == 0) {
                 log.error("Web-friendly JPG conversion resulted in an empty image.");
@@ -164,7 +173,7 @@ public class S3FileStorageService implements FileStorageService {
             // 4. 썸네일 생성
             log.info("Step 4/5: Creating thumbnail version...");
             ByteArrayOutputStream thumbnailOutputStream = new ByteArrayOutputStream();
-            Thumbnails.of(new ByteArrayInputStream(webOriginalImageBytes))
+            Thumbnails.of(new ByteArrayInputStream(fileBytes))
                     .size(1080, 1080)
                     .outputQuality(0.7)
                     .toOutputStream(thumbnailOutputStream);
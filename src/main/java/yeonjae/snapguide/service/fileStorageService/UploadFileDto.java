@@ -4,16 +4,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
+
+import java.nio.file.Path;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class UploadFileDto {
-    byte[] originalFileBytes;
+    byte[] originalFileBytes; // 레거시(uploadFile) 경로만 사용, 스트리밍 경로는 null
+    Path sourceFile;          // 원본 파일 경로 (S3: UploadSpillStore 임시 파일, 로컬: 저장된 원본)
     String originalDir;
     String originalKey;      // S3 key 또는 로컬 경로
     String baseFileName;     // UUID 기반 파일명 (비동기 처리용)
     String webDir;
     String thumbnailDir;
+    ParsedImageMetadata parsedMetadata; // 저장 전에 읽은 메타데이터 (저장본에서 EXIF를 지운 경우, null이면 저장본에서 파싱)
 }
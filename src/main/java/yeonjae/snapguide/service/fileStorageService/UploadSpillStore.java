@@ -0,0 +1,103 @@
+package yeonjae.snapguide.service.fileStorageService;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 업로드 원본을 힙(byte[]) 대신 임시 파일로 보관하는 저장소
+ *
+ * - 업로드 요청에서 한 번만 디스크에 기록 (MultipartFile.transferTo)
+ * - EXIF 파싱, S3 업로드, 비동기 파생 파일 생성은 모두 이 경로를 참조해 스트리밍으로 읽음
+ * - 파생 파일 생성이 끝나면 release()로 삭제, 누락된 파일은 주기적으로 정리
+ */
+@Slf4j
+@Component
+public class UploadSpillStore {
+
+    private final Path spillDir;
+    private final Duration maxAge;
+
+    public UploadSpillStore(
+            @Value("${upload.spill.dir:${java.io.tmpdir}/snapguide-spill}") String spillDir,
+            @Value("${upload.spill.max-age-minutes:360}") long maxAgeMinutes) {
+        this.spillDir = Paths.get(spillDir).toAbsolutePath().normalize();
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+    }
+
+    /**
+     * 업로드 파일을 임시 파일로 기록 (Tomcat이 이미 디스크에 둔 경우 이동/복사만 발생)
+     */
+    public Path spill(MultipartFile file, String extension) throws IOException {
+        Path target = newSpillFile(extension);
+        file.transferTo(target);
+        return target;
+    }
+
+    /**
+     * 변환 결과 등 이미 메모리에 있는 바이트를 임시 파일로 기록
+     */
+    public Path spill(byte[] bytes, String extension) throws IOException {
+        Path target = newSpillFile(extension);
+        Files.write(target, bytes);
+        return target;
+    }
+
+    public Path newSpillFile(String extension) throws IOException {
+        Files.createDirectories(spillDir);
+        return Files.createTempFile(spillDir, "upload-", "." + (extension.isEmpty() ? "bin" : extension));
+    }
+
+    /**
+     * 임시 파일 삭제 (spillDir 밖의 경로 - 예: 로컬 저장소 원본 - 는 건드리지 않음)
+     */
+    public void release(Path path) {
+        if (path == null || !isSpillFile(path)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[Spill] Failed to delete {}", path, e);
+        }
+    }
+
+    public boolean isSpillFile(Path path) {
+        return path.toAbsolutePath().normalize().startsWith(spillDir);
+    }
+
+    /**
+     * 파생 파일 작업이 거절/실패해 release되지 않은 임시 파일 정리
+     */
+    @Scheduled(fixedDelayString = "${upload.spill.sweep-interval-ms:3600000}")
+    public void sweep() {
+        if (!Files.isDirectory(spillDir)) {
+            return;
+        }
+        Instant threshold = Instant.now().minus(maxAge);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[Spill] Sweep failed for {}", spillDir, e);
+        }
+        if (deleted > 0) {
+            log.info("[Spill] Removed {} stale spill files", deleted);
+        }
+    }
+}
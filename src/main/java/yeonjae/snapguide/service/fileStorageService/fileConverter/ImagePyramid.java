@@ -0,0 +1,186 @@
+package yeonjae.snapguide.service.fileStorageService.fileConverter;
+
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 원본을 한 번만 디코딩해서 여러 크기(320/720/1080 ...)의 JPG를 만드는 유틸
+ *
+ * - 디코딩 1회 + EXIF Orientation 회전 1회
+ * - 큰 크기부터 만들고, 만든 결과를 다음(더 작은) 크기의 입력으로 사용 (피라미드)
+ * - 각 단계는 절반씩 줄이다가 마지막에 목표 크기로 맞춤 (한 번에 크게 줄일 때의 계단 현상 방지)
+ * - 원본보다 큰 크기는 확대하지 않고 원본 크기 그대로 사용
+ */
+public class ImagePyramid {
+
+    public record Variant(int size, BufferedImage image) {}
+
+    /**
+     * 원본 디코딩 (Orientation 적용, 알파 채널은 흰 배경으로 합성)
+     *
+     * @param minLongEdge 필요한 최소 긴 변 크기 (0이면 원본 크기 그대로)
+     *                    원본이 그 2배보다 크면 디코딩 단계에서 건너뛰며 읽어 메모리/시간 절약
+     */
+    public static BufferedImage decode(Path source, int minLongEdge) throws IOException {
+        BufferedImage decoded;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + source.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = minLongEdge > 0 ? Math.max(1, longEdge / (minLongEdge * 2)) : 1;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                decoded = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        return orient(toRgb(decoded), ParsedImageMetadata.parse(source).orientation());
+    }
+
+    /**
+     * @param sizes 긴 변 기준 픽셀 크기 목록 (순서 무관)
+     * @return 큰 크기부터 정렬된 결과
+     */
+    public static List<Variant> downscale(BufferedImage full, List<Integer> sizes) {
+        List<Integer> sorted = sizes.stream().distinct().sorted(Comparator.reverseOrder()).toList();
+        List<Variant> variants = new ArrayList<>(sorted.size());
+
+        BufferedImage current = full;
+        for (int size : sorted) {
+            current = resizeToLongEdge(current, size);
+            variants.add(new Variant(size, current));
+        }
+        return variants;
+    }
+
+    public static void writeJpeg(BufferedImage image, float quality, Path target) throws IOException {
+        try (OutputStream out = Files.newOutputStream(target)) {
+            writeJpeg(image, quality, out);
+        }
+    }
+
+    public static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage resizeToLongEdge(BufferedImage source, int longEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (Math.max(width, height) <= longEdge) {
+            return source; // 확대하지 않음
+        }
+        double ratio = (double) longEdge / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.drawImage(image, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * EXIF Orientation(1~8)에 맞춰 픽셀을 회전/반전
+     */
+    static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5;
+
+        // 원본 (x, y) → 결과 (x', y') 변환 행렬 (m00, m10, m01, m11, m02, m12)
+        AffineTransform t = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 주대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 부대각선 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 8: 반시계 90도
+        };
+
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, t, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+}
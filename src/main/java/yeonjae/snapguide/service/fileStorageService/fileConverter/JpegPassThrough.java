@@ -0,0 +1,183 @@
+package yeonjae.snapguide.service.fileStorageService.fileConverter;
+
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * JPEG 입력은 디코딩/재인코딩 없이 그대로 사용하기 위한 유틸
+ *
+ * - 이미 JPEG인 원본을 Thumbnails.scale(1.0)으로 다시 인코딩하면 CPU만 쓰고 화질은 떨어짐
+ * - 웹용 사본은 픽셀은 그대로 두고 메타데이터 세그먼트만 정리
+ *   (APP1 EXIF/XMP, APP13 IPTC, COM 제거 → GPS 등 개인정보 비노출)
+ * - 회전 정보는 픽셀을 돌리지 않고 Orientation 태그 하나만 담은 최소 EXIF로 유지
+ * - 파일 입력은 메모리 매핑으로 읽어 힙에 올리지 않음
+ */
+@Slf4j
+public class JpegPassThrough {
+
+    private static final int SOI = 0xD8;
+    private static final int EOI = 0xD9;
+    private static final int SOS = 0xDA;
+    private static final int APP1 = 0xE1;
+    private static final int APP13 = 0xED;
+    private static final int COM = 0xFE;
+
+    /**
+     * 웹용 JPG 생성: JPEG면 메타데이터만 정리, 그 외(PNG 등)는 기존처럼 JPG로 재인코딩
+     */
+    public static byte[] toWebJpg(byte[] imageBytes) throws IOException {
+        if (ParsedImageMetadata.isJpeg(imageBytes)) {
+            try {
+                return stripMetadata(imageBytes, ParsedImageMetadata.parse(imageBytes).orientation());
+            } catch (IllegalArgumentException e) {
+                log.warn("[JpegPassThrough] Malformed JPEG segments, falling back to re-encode: {}", e.getMessage());
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Thumbnails.of(new ByteArrayInputStream(imageBytes))
+                .scale(1.0)
+                .outputFormat("jpg")
+                .toOutputStream(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 파일 → 파일 버전 (UploadSpillStore 임시 파일용)
+     */
+    public static void toWebJpg(Path source, Path target) throws IOException {
+        if (passThrough(source, target)) {
+            return;
+        }
+        try (OutputStream out = Files.newOutputStream(target)) {
+            Thumbnails.of(source.toFile())
+                    .scale(1.0)
+                    .outputFormat("jpg")
+                    .toOutputStream(out);
+        }
+    }
+
+    /**
+     * JPEG면 메타데이터만 정리해 target에 기록하고 true, JPEG가 아니거나 세그먼트가 깨졌으면 false
+     * (false면 호출 측에서 디코딩 결과로 직접 인코딩)
+     */
+    public static boolean passThrough(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            if (!isJpeg(mapped)) {
+                return false;
+            }
+            try (FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                stripMetadata(mapped, ParsedImageMetadata.parse(source).orientation(), out);
+                return true;
+            } catch (IllegalArgumentException e) {
+                log.warn("[JpegPassThrough] Malformed JPEG segments, falling back to re-encode: {}", e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    public static byte[] stripMetadata(byte[] jpeg, int orientation) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length);
+        try {
+            stripMetadata(ByteBuffer.wrap(jpeg), orientation, Channels.newChannel(out));
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream은 IOException 없음
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 엔트로피 코딩된 이미지 데이터(SOS 이후)는 그대로 복사하고, 그 앞의 메타데이터 세그먼트만 걸러냄
+     * 색 재현에 필요한 APP0(JFIF), APP2(ICC), APP14(Adobe)와 DQT/DHT/SOF 등은 유지
+     *
+     * @param orientation 1이 아니면 Orientation 태그만 담은 EXIF(APP1)를 SOI 바로 뒤에 추가
+     */
+    public static void stripMetadata(ByteBuffer jpeg, int orientation, WritableByteChannel out) throws IOException {
+        if (!isJpeg(jpeg)) {
+            throw new IllegalArgumentException("Not a JPEG");
+        }
+        int length = jpeg.limit();
+        write(out, ByteBuffer.wrap(new byte[]{(byte) 0xFF, (byte) SOI}));
+        if (orientation != 1) {
+            write(out, ByteBuffer.wrap(orientationOnlyExif(orientation)));
+        }
+
+        int pos = 2;
+        while (pos + 1 < length) {
+            if ((jpeg.get(pos) & 0xFF) != 0xFF) {
+                throw new IllegalArgumentException("Expected marker at offset " + pos);
+            }
+            int marker = jpeg.get(pos + 1) & 0xFF;
+            if (marker == 0xFF) { // 채움(fill) 바이트
+                pos++;
+                continue;
+            }
+            if (marker == EOI) {
+                write(out, jpeg.slice(pos, 2));
+                return;
+            }
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) { // 길이 없는 단독 마커
+                write(out, jpeg.slice(pos, 2));
+                pos += 2;
+                continue;
+            }
+            if (pos + 3 >= length) {
+                throw new IllegalArgumentException("Truncated segment at offset " + pos);
+            }
+            int segmentLength = ((jpeg.get(pos + 2) & 0xFF) << 8) | (jpeg.get(pos + 3) & 0xFF);
+            int end = pos + 2 + segmentLength;
+            if (segmentLength < 2 || end > length) {
+                throw new IllegalArgumentException("Invalid segment length at offset " + pos);
+            }
+            if (marker == SOS) {
+                write(out, jpeg.slice(pos, length - pos)); // 이미지 데이터 + EOI 그대로
+                return;
+            }
+            if (marker != APP1 && marker != APP13 && marker != COM) {
+                write(out, jpeg.slice(pos, end - pos));
+            }
+            pos = end;
+        }
+        throw new IllegalArgumentException("No image data (SOS) found");
+    }
+
+    private static boolean isJpeg(ByteBuffer buffer) {
+        return buffer.limit() >= 2 && (buffer.get(0) & 0xFF) == 0xFF && (buffer.get(1) & 0xFF) == SOI;
+    }
+
+    private static void write(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * Orientation 태그 하나만 가진 최소 EXIF APP1 세그먼트 (Big-endian TIFF)
+     */
+    private static byte[] orientationOnlyExif(int orientation) {
+        return new byte[]{
+                (byte) 0xFF, (byte) APP1, 0x00, 0x22,           // APP1, 길이 34
+                'E', 'x', 'i', 'f', 0x00, 0x00,                 // EXIF 헤더
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,   // TIFF 헤더, IFD0 오프셋 8
+                0x00, 0x01,                                     // IFD0 항목 수 1
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, // Orientation(0x0112), SHORT, count 1
+                0x00, (byte) orientation, 0x00, 0x00,           // 값
+                0x00, 0x00, 0x00, 0x00                          // 다음 IFD 없음
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package yeonjae.snapguide.service.guideSerivce;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
+import yeonjae.snapguide.domain.guide.GuideChangedEvent;
+import yeonjae.snapguide.domain.media.MediaDto;
+import yeonjae.snapguide.domain.member.dto.MemberDto;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedRepository;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedView;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * guide_feed 비정규화 테이블 갱신 + 조회
+ *
+ * 근처 가이드 조회마다 location, guide, member, media를 조인하던 것을
+ * 위치/팁/작성자/앞쪽 N개 media/좋아요 수를 한 행에 모아둔 guide_feed 한 테이블 조회로 대체
+ *
+ * 갱신 방식:
+ * 1. 기동 시 + 주기적 전체 재구성 (Guide id를 나눠서 upsert, 바뀐 행만 UPDATE)
+ * 2. Guide 생성/수정/삭제, media URL 변경 커밋 후 GuideChangedEvent로 해당 Guide만 갱신
+ * 3. 좋아요 수는 GuideLikeCounter가 guide.like_count와 같은 트랜잭션에서 반영
+ *
+ * 증분 갱신이 실패하거나 재구성과 겹쳐 어긋난 행은 다음 재구성에서 맞춰짐
+ * 첫 재구성 전이거나 비활성화된 경우 isReady() == false → 호출 측에서 기존 조인 조회로 폴백
+ */
+@Slf4j
+@Service
+public class GuideFeedService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<MediaDto>> MEDIA_LIST = new TypeReference<>() {};
+
+    private final GuideFeedRepository guideFeedRepository;
+    // AFTER_COMMIT 리스너에서도 새 트랜잭션으로 실행되도록 REQUIRES_NEW
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int mediaLimit;
+
+    private volatile boolean ready = false;
+
+    public GuideFeedService(GuideFeedRepository guideFeedRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${guide.feed.enabled:true}") boolean enabled,
+                            @Value("${guide.feed.media-limit:10}") int mediaLimit) {
+        this.guideFeedRepository = guideFeedRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.mediaLimit = mediaLimit;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 반경 검색 결과 1건 (커서 + 응답 DTO)
+     */
+    public record Hit(NearbyCursor cursor, GuideResponseDto guide) {
+    }
+
+    /**
+     * Guide ID 목록으로 조회 (순서 보장 X)
+     */
+    public List<GuideResponseDto> findByIds(Collection<Long> guideIds) {
+        if (guideIds.isEmpty()) {
+            return List.of();
+        }
+        return guideFeedRepository.findByGuideIds(guideIds).stream()
+                .map(this::toResponseDto)
+                .toList();
+    }
+
+    /**
+     * 거리순으로 after 다음부터 limit개 (after == null이면 처음부터)
+     */
+    public List<Hit> findNearby(double lat, double lng, double radiusKm, NearbyCursor after, int limit) {
+        return guideFeedRepository.findNearbyAfter(
+                        lat, lng, radiusKm,
+                        after != null ? after.distanceKm() : -1,
+                        after != null ? after.guideId() : 0L,
+                        limit
+                ).stream()
+                .map(view -> new Hit(new NearbyCursor(view.getDistanceKm(), view.getGuideId()), toResponseDto(view)))
+                .toList();
+    }
+
+    /**
+     * 가까운 순 limit개 (geography KNN)
+     */
+    public List<Hit> findNearest(double lat, double lng, int limit) {
+        return guideFeedRepository.findNearest(lat, lng, limit).stream()
+                .map(view -> new Hit(new NearbyCursor(view.getDistanceKm(), view.getGuideId()), toResponseDto(view)))
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${guide.feed.rebuild-interval-ms:1800000}",
+            initialDelayString = "${guide.feed.rebuild-interval-ms:1800000}"
+    )
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * 전체 Guide를 REBUILD_BATCH_SIZE개씩 나눠 upsert (배치마다 트랜잭션 분리, 잠금 시간 최소화)
+     * 실패하면 이전 상태 유지 (최초 재구성 실패 시에는 조인 조회로 폴백)
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                guideFeedRepository.createSpatialIndex();
+                guideFeedRepository.createGeographySpatialIndex();
+            });
+
+            List<Long> guideIds = guideFeedRepository.findAllGuideIds();
+            int written = 0;
+            for (int from = 0; from < guideIds.size(); from += REBUILD_BATCH_SIZE) {
+                List<Long> batch = guideIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, guideIds.size()));
+                Integer count = transactionTemplate.execute(status -> {
+                    guideFeedRepository.deleteMissing(batch);
+                    return guideFeedRepository.upsertFromSource(batch, mediaLimit);
+                });
+                written += count != null ? count : 0;
+            }
+            transactionTemplate.executeWithoutResult(status -> guideFeedRepository.deleteOrphans());
+
+            ready = true;
+            log.info("[GuideFeed] Rebuilt {} guides ({} rows written) in {}ms",
+                    guideIds.size(), written, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("[GuideFeed] Rebuild failed, keeping previous rows", e);
+        }
+    }
+
+    // 캐시 무효화(NearbyGuideCacheKeys)보다 먼저 → 무효화 직후 다시 캐시되는 결과가 갱신된 feed 기준
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onGuideChanged(GuideChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        refresh(List.of(event.guideId()));
+    }
+
+    /**
+     * 지정한 Guide의 feed 행만 원본에서 다시 만듦 (삭제/위치 제거된 Guide는 행 삭제)
+     */
+    public void refresh(Collection<Long> guideIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                guideFeedRepository.deleteMissing(guideIds);
+                guideFeedRepository.upsertFromSource(guideIds, mediaLimit);
+            });
+        } catch (Exception e) {
+            log.warn("[GuideFeed] Refresh failed for guides {}, will be fixed on next rebuild", guideIds, e);
+        }
+    }
+
+    private GuideResponseDto toResponseDto(GuideFeedView view) {
+        return GuideResponseDto.builder()
+                .id(view.getGuideId())
+                .tip(view.getTip())
+                .author(new MemberDto(view.getAuthorId(), view.getAuthorEmail()))
+                .locationName(view.getLocationName())
+                .media(parseMedia(view.getMedia()))
+                .likeCount(view.getLikeCount() != null ? view.getLikeCount() : 0)
+                .userHasLiked(false)
+                .build();
+    }
+
+    private List<MediaDto> parseMedia(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, MEDIA_LIST);
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid guide_feed media json: " + json, e);
+        }
+    }
+}
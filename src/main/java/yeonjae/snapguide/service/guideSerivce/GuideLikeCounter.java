@@ -0,0 +1,221 @@
+package yeonjae.snapguide.service.guideSerivce;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.domain.like.GuideLikeChangedEvent;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedRepository;
+import yeonjae.snapguide.repository.guideRepository.GuideRepository;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Guide.likeCount write-behind 카운터
+ *
+ * 좋아요마다 guide 행을 UPDATE하면 인기 Guide 하나에 모든 요청이 행 잠금으로 줄을 섬
+ * → 커밋된 변화량을 Redis hash(guide:like:pending, HINCRBY)에 모았다가 flushInterval마다 Guide별 1회 UPDATE
+ *   행 잠금 횟수 = Guide 수 / flush 주기 (요청 수, 인스턴스 수와 무관)
+ *
+ * - guide_like 행(누가 눌렀는지)은 기존처럼 요청 트랜잭션에서 바로 INSERT/DELETE
+ * - 변화량은 모든 인스턴스가 같은 hash를 공유 → 조회 시 pendingDelta()로 어느 인스턴스에서든 반영 전 변화량까지 보여줌
+ * - flush/reconcile은 Redis 락(guide:like:lock)으로 한 인스턴스에서만 실행
+ * - reconcile: 반영 전 변화량이 없는 전체 Guide의 like_count를 guide_like 행 수로 보정 (로컬 상태에 의존하지 않음)
+ *   커밋 후 HINCRBY 전에 인스턴스가 죽거나 Redis 장애로 잃은 변화량, 보정과 커밋이 겹친 경우의 오차도 다음 보정에서 정리
+ * - guide_feed.like_count도 같은 트랜잭션에서 같이 반영/보정
+ */
+@Slf4j
+@Component
+public class GuideLikeCounter {
+
+    static final String PENDING_KEY = "guide:like:pending";
+    static final String LOCK_KEY = "guide:like:lock";
+    private static final Duration FLUSH_LOCK_LEASE = Duration.ofSeconds(30);
+    private static final Duration RECONCILE_LOCK_LEASE = Duration.ofMinutes(10);
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    // 읽기와 삭제를 한 번에 (drain 이후의 HINCRBY는 새 hash에 쌓임)
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            return entries
+            """, List.class);
+
+    // 내가 잡은 락일 때만 해제
+    static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final GuideRepository guideRepository;
+    private final GuideFeedRepository guideFeedRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 같은 인스턴스 안에서 flush/reconcile 중복 실행 방지 (인스턴스 간은 Redis 락)
+    private final ReentrantLock localLock = new ReentrantLock();
+
+    public GuideLikeCounter(GuideRepository guideRepository, GuideFeedRepository guideFeedRepository,
+                            TransactionTemplate transactionTemplate, RedisTemplate<String, Object> redisTemplate) {
+        this.guideRepository = guideRepository;
+        this.guideFeedRepository = guideFeedRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLikeChanged(GuideLikeChangedEvent event) {
+        add(event.guideId(), event.delta());
+    }
+
+    /**
+     * 실패해도 요청은 성공으로 둠 (guide_like 행은 이미 커밋됨, 다음 reconcile에서 보정)
+     */
+    public void add(Long guideId, long delta) {
+        try {
+            redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(guideId), delta);
+        } catch (Exception e) {
+            log.warn("[LikeCounter] Failed to record delta {} for guide {}, will be reconciled", delta, guideId, e);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 변화량 (전체 인스턴스 기준)
+     */
+    public long pendingDelta(Long guideId) {
+        try {
+            Object value = redisTemplate.opsForHash().get(PENDING_KEY, String.valueOf(guideId));
+            return value == null ? 0 : Long.parseLong(value.toString());
+        } catch (Exception e) {
+            log.debug("[LikeCounter] Failed to read pending delta for guide {}", guideId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 누적된 변화량을 Guide별 UPDATE 1회로 반영 (id 순서로 잠금)
+     * 실패하면 변화량을 hash에 되돌려 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${guide.like-counter.flush-interval-ms:1000}")
+    public void flush() {
+        withLock(FLUSH_LOCK_LEASE, this::drainAndApply);
+    }
+
+    /**
+     * 전체 Guide를 RECONCILE_BATCH_SIZE개씩 guide_like 행 수로 보정 (배치마다 트랜잭션 분리)
+     * 먼저 flush하고, 그 사이 새로 쌓인 변화량이 있는 Guide는 이번 보정에서 제외 (다음 flush가 반영)
+     */
+    @Scheduled(
+            fixedDelayString = "${guide.like-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${guide.like-counter.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        withLock(RECONCILE_LOCK_LEASE, () -> {
+            drainAndApply();
+            long startTime = System.currentTimeMillis();
+            try {
+                Set<Long> pendingIds = pendingGuideIds();
+                List<Long> guideIds = guideRepository.findAllIds();
+                int corrected = 0;
+                for (int from = 0; from < guideIds.size(); from += RECONCILE_BATCH_SIZE) {
+                    List<Long> targets = guideIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, guideIds.size()))
+                            .stream()
+                            .filter(id -> !pendingIds.contains(id))
+                            .toList();
+                    if (targets.isEmpty()) {
+                        continue;
+                    }
+                    Integer count = transactionTemplate.execute(status -> {
+                        int updated = guideRepository.reconcileLikeCounts(targets);
+                        guideFeedRepository.syncLikeCounts(targets);
+                        return updated;
+                    });
+                    corrected += count != null ? count : 0;
+                }
+                log.info("[LikeCounter] Reconciled like_count of {} / {} guides in {}ms",
+                        corrected, guideIds.size(), System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                log.warn("[LikeCounter] Reconcile failed, retrying next interval", e);
+            }
+        });
+    }
+
+    private void withLock(Duration lease, Runnable task) {
+        if (!localLock.tryLock()) {
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lease);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+            }
+        } catch (Exception e) {
+            log.warn("[LikeCounter] Redis unavailable, skipping this interval", e);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private void drainAndApply() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> deltas.forEach((guideId, delta) -> {
+                guideRepository.addLikeCount(guideId, delta);
+                guideFeedRepository.addLikeCount(guideId, delta);
+            }));
+            log.debug("[LikeCounter] Flushed {} guides", deltas.size());
+        } catch (Exception e) {
+            deltas.forEach(this::add);
+            log.warn("[LikeCounter] Flush failed, retrying next interval ({} guides)", deltas.size(), e);
+        }
+    }
+
+    /**
+     * hash를 원자적으로 비우고 id 순으로 정렬된 변화량 반환
+     */
+    private Map<Long, Long> drain() {
+        List<?> entries = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+        Map<Long, Long> deltas = new TreeMap<>();
+        if (entries == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta != 0) {
+                deltas.put(Long.parseLong(entries.get(i).toString()), delta);
+            }
+        }
+        return deltas;
+    }
+
+    private Set<Long> pendingGuideIds() {
+        Set<Long> ids = new HashSet<>();
+        for (Object key : redisTemplate.opsForHash().keys(PENDING_KEY)) {
+            ids.add(Long.parseLong(key.toString()));
+        }
+        return ids;
+    }
+}
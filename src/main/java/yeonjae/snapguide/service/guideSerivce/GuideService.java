@@ -3,50 +3,72 @@ package yeonjae.snapguide.service.guideSerivce;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideCreateTestDto;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeBatchRequestDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeResultDto;
+import yeonjae.snapguide.controller.guideController.guideDto.SliceResponse;
 import yeonjae.snapguide.domain.guide.Guide;
+import yeonjae.snapguide.domain.guide.GuideChangedEvent;
 //import yeonjae.snapguide.domain.guide.GuideDistanceDto;
-import yeonjae.snapguide.domain.like.GuideLike;
+import yeonjae.snapguide.domain.like.GuideLikeChangedEvent;
 import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.domain.media.MediaDto;
 import yeonjae.snapguide.domain.member.Member;
 import yeonjae.snapguide.domain.member.dto.MemberDto;
+import yeonjae.snapguide.infrastructure.cache.member.MemberIdCache;
+import yeonjae.snapguide.infrastructure.cache.nearby.NearbyGuideCacheKeys;
+import yeonjae.snapguide.infrastructure.spatial.GeoGridIndex;
+import yeonjae.snapguide.infrastructure.spatial.GuideSpatialIndex;
 import yeonjae.snapguide.repository.guideLikeRepository.GuideLikeRepository;
+import yeonjae.snapguide.repository.guideLikeRepository.GuideLikeWriteView;
+import yeonjae.snapguide.repository.guideRepository.GuideDistanceView;
 import yeonjae.snapguide.repository.guideRepository.GuideRepository;
-import yeonjae.snapguide.repository.locationRepository.GeoUtil;
 import yeonjae.snapguide.repository.locationRepository.LocationRepository;
 import yeonjae.snapguide.repository.mediaRepository.MediaRepository;
 import yeonjae.snapguide.repository.memberRepository.MemberRepository;
 import yeonjae.snapguide.service.fileStorageService.FileStorageService;
 
 import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class GuideService {
+    private static final int MAX_NEARBY_PAGE_SIZE = 50;
+    private static final int MAX_LIKE_BATCH_SIZE = 100;
+    private static final int MAX_NEAREST_LIMIT = 50;
+
     private final GuideRepository guideRepository;
     private final MemberRepository memberRepository;
     private final LocationRepository locationRepository;
     private final MediaRepository mediaRepository;
     private final GuideLikeRepository guideLikeRepository;
+    private final MemberIdCache memberIdCache;
+    private final GuideLikeCounter guideLikeCounter;
 
     private final FileStorageService fileStorageService;
+    private final GuideSpatialIndex guideSpatialIndex;
+    private final GuideFeedService guideFeedService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /*
     가이드 생성하고
@@ -70,7 +92,6 @@ public class GuideService {
      * Guide 생성 + Media 연결 통합 메서드 (권장)
      * DB 조회 최소화: Media 엔티티를 직접 받아서 처리
      */
-    @CacheEvict(value = "nearbyGuides", allEntries = true)
     public Long createGuideWithMedia(Member author, String tip, List<Media> mediaList) {
         // 1. 첫 번째 Media의 Location 사용 (없으면 null)
         Location location = mediaList.stream()
@@ -92,6 +113,7 @@ public class GuideService {
         if (!mediaList.isEmpty()) {
             linkMediaToGuide(guide, mediaList);
         }
+        eventPublisher.publishEvent(GuideChangedEvent.created(guide));
 
         log.info("[Guide] Created guide {} with {} media", guide.getId(), mediaList.size());
         return guide.getId();
@@ -101,7 +123,6 @@ public class GuideService {
      * @deprecated DTO 기반 생성은 추가 DB 조회 필요. createGuideWithMedia() 사용 권장
      */
     @Deprecated
-    @CacheEvict(value = "nearbyGuides", allEntries = true)
     public Long createGuide(GuideCreateTestDto guideCreateTestDto) {
         Member author = memberRepository.findById(guideCreateTestDto.getMemberId())
                 .orElseThrow(() -> new EntityNotFoundException("member not found"));
@@ -119,6 +140,7 @@ public class GuideService {
                 .build();
 
         guideRepository.save(guide);
+        eventPublisher.publishEvent(GuideChangedEvent.created(guide));
         return guide.getId();
     }
 
@@ -148,18 +170,18 @@ public class GuideService {
         return guideRepository.findAllByMemberId(memberId);
     }
 
-    @CacheEvict(value = "nearbyGuides", allEntries = true)
     public GuideResponseDto updateTip(Long guideId, String newTip, @AuthenticationPrincipal UserDetails userDetails) {
         Guide guide = guideRepository.findById(guideId)
                 .orElseThrow(() -> new IllegalArgumentException("Guide not found"));
 
-        Member member = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+        // Member 조회 없이 id만 비교 (author 프록시의 getId()는 초기화하지 않음)
+        Long memberId = memberIdCache.getMemberId(userDetails.getUsername());
 
-        if (!guide.getAuthor().getId().equals(member.getId())) {
+        if (!guide.getAuthor().getId().equals(memberId)) {
             throw new AccessDeniedException("본인의 가이드만 수정할 수 있습니다.");
         }
         guide.updateTip(newTip);
+        eventPublisher.publishEvent(GuideChangedEvent.updated(guide));
 //        guideRepository.save(guide); // 변경감지로 자동 반영되지만 save로 명시해도 OK
         // DTO로 변환해서 반환
 //        return new GuideResponseDto(guide.getId(), guide.getTip());
@@ -195,6 +217,11 @@ public class GuideService {
                 fileStorageService.deleteFile(media.getOriginalKey());
                 fileStorageService.deleteFile(media.getWebKey());
                 fileStorageService.deleteFile(media.getThumbnailKey());
+                for (String variantKey : media.getVariantKeyList()) {
+                    if (!variantKey.equals(media.getThumbnailKey())) {
+                        fileStorageService.deleteFile(variantKey);
+                    }
+                }
                 log.info("S3 파일 삭제 성공: {}", media.getMediaName());
             } catch (IOException e) {
                 log.error("S3 파일 삭제 실패: {}", media.getMediaUrl(), e);
@@ -203,15 +230,14 @@ public class GuideService {
         }
     }
 
-    @CacheEvict(value = "nearbyGuides", allEntries = true)
     public void deleteGuide(Long guideId, @AuthenticationPrincipal UserDetails userDetails) {
         Guide guide = guideRepository.findById(guideId)
                 .orElseThrow(() -> new IllegalArgumentException("Guide not found"));
 
-        Member member = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
+        // Member 조회 없이 id만 비교 (author 프록시의 getId()는 초기화하지 않음)
+        Long memberId = memberIdCache.getMemberId(userDetails.getUsername());
 
-        if (!guide.getAuthor().getId().equals(member.getId())) {
+        if (!guide.getAuthor().getId().equals(memberId)) {
             throw new AccessDeniedException("본인의 가이드만 삭제할 수 있습니다.");
         }
 
@@ -221,82 +247,176 @@ public class GuideService {
         deleteMediaFilesFromStorage(guide);
 
         // DB에서 Guide 삭제
+        eventPublisher.publishEvent(GuideChangedEvent.deleted(guide));
         guideRepository.delete(guide);
         log.info("Guide deletion successful for: {}", guideId);
     }
 
+    /**
+     * 캐시 키는 검색 중심의 타일 + 요청 반경 (NearbyGuideCacheKeys)
+     * 부분 무효화가 가능한 반경(guide.nearby-cache.max-cached-radius-km 이하)만 캐시
+     * 무효화는 GuideChangedEvent 커밋 후 변경 좌표 주변 타일만 (전체 삭제 X)
+     */
     @Cacheable(
-            value = "nearbyGuides",
-            key = "T(Math).round(#lat * 100) / 100.0 + ':' + T(Math).round(#lng * 100) / 100.0 + ':' + #radius",
+            value = NearbyGuideCacheKeys.CACHE_NAME,
+            keyGenerator = "nearbyGuideCacheKeys",
+            condition = "@nearbyGuideCacheKeys.isCacheable(#radius)",
             unless = "#result.isEmpty()"
     )
+    @Transactional(readOnly = true)
     public List<GuideResponseDto> findGuidesNear(double lat, double lng, double radius) { // km
         log.info("📍 [findGuidesNear] 요청 위치: lat = {}, lng = {}, radius = {} km", lat, lng, radius);
 
-        // Bounding Box 계산 (km → degree)
-        double[] box = GeoUtil.getBoundingBox(lat, lng, radius);
-        double minLat = box[0], maxLat = box[1];
-        double minLng = box[2], maxLng = box[3];
-
-        // ST_DWithin용 radius를 degree로 변환 (geometry 타입이므로)
-        double radiusInDegrees = GeoUtil.kmToDegrees(lat, radius);
-        log.info("🔄 [findGuidesNear] radius 변환: {} km → {} degrees", radius, radiusInDegrees);
-
-        List<Location> locations = locationRepository.findNearbyOptimized(lat, lng, radiusInDegrees,
-                minLat, minLng, maxLat, maxLng);
-
-        log.info("📌 [findNearbyOptimized] 반환된 Location 수: {}", locations.size());
-        // NOTE : 과도한 로깅으로 오버헤드 발생하여 주석 처리 함
-//        locations.forEach(loc ->
-//                log.info("    ▸ Location ID = {}, 이름 = {}, 좌표 = {}",
-//                        loc.getId(),
-//                        loc.getLocationName(),
-//                        loc.getCoordinate())
-//        );
-
-        // 위치 ID를 기준으로 가이드 찾기
-        List<Long> locationIds = locations.stream()
-                .map(Location::getId)
+        // guide_feed가 준비됐으면 feed 한 테이블, 아니면 Projection 조인 조회 (GuideRepositoryCustomImpl.findResponses)
+        List<GuideResponseDto> result = guideSpatialIndex.isReady()
+                ? findGuidesNearFromIndex(lat, lng, radius)
+                : findGuidesNearFromDb(lat, lng, radius);
+
+        log.info("✅ 최종 반환 GuideDto 수: {}", result.size());
+        return result;
+    }
+
+    /**
+     * 근처 가이드 거리순 커서 페이징
+     * geography KNN(<->)으로 커서 뒤 가까운 순 pageSize + 1개만 읽는다 (반경 안 전체를 정렬하지 않음).
+     * guide_feed, DB 두 경로 모두 같은 구면 거리라서 페이지 사이에 경로가 바뀌어도 커서 순서가 같다.
+     * 인메모리 인덱스는 반경 안 전체를 정렬해야 하고 거리 식도 달라서 페이징에는 쓰지 않는다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ MAX_NEARBY_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<GuideResponseDto> findGuidesNearPaged(double lat, double lng, double radius,
+                                                               String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_NEARBY_PAGE_SIZE));
+        NearbyCursor after = NearbyCursor.decode(cursor);
+
+        // guide_feed가 준비됐으면 KNN 1회로 거리 + 내용까지 조회
+        if (guideFeedService.isReady()) {
+            List<GuideFeedService.Hit> hits = guideFeedService.findNearby(lat, lng, radius, after, pageSize + 1);
+            boolean hasNext = hits.size() > pageSize;
+            List<GuideFeedService.Hit> page = hasNext ? hits.subList(0, pageSize) : hits;
+            return SliceResponse.<GuideResponseDto>builder()
+                    .content(page.stream().map(GuideFeedService.Hit::guide).toList())
+                    .hasNext(hasNext)
+                    .nextCursor(hasNext ? page.get(page.size() - 1).cursor().encode() : null)
+                    .size(page.size())
+                    .first(after == null)
+                    .build();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 pageSize + 1개 조회
+        List<NearbyCursor> window = nearbyWindowFromDb(lat, lng, radius, after, pageSize + 1);
+
+        boolean hasNext = window.size() > pageSize;
+        List<NearbyCursor> page = hasNext ? window.subList(0, pageSize) : window;
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < page.size(); i++) {
+            rank.put(page.get(i).guideId(), i);
+        }
+
+        List<GuideResponseDto> content = findResponsesByIds(rank.keySet()).stream()
+                .sorted(Comparator.comparingInt(dto -> rank.get(dto.getId())))
                 .toList();
 
-        log.info("🧭 조회할 Location ID 목록: {}", locationIds);
-
-        List<Guide> guides = guideRepository.findByLocationIdInWithFetch(locationIds);
-        log.info("📘 Guide 수: {} (Fetch Join 적용)", guides.size());
-        guides.forEach(g ->
-                log.info("    ▸ Guide ID = {}, Tip = {}, Location ID = {}",
-                        g.getId(),
-                        g.getTip(),
-                        g.getLocation().getId())
-        );
-
-//        List<GuideResponseDto> result = guides.stream()
-//                .map(GuideResponseDto::fromEntity)
-//                .toList();
-
-        // 3. guides 목록을 DTO로 변환합니다.
-        List<GuideResponseDto> result = guides.stream()
-                .map(guide -> {
-                    // 미디어 리스트 변환
-                    List<MediaDto> mediaDto = guide.getMediaList()
-                            .stream()
-                            .map(MediaDto::fromEntity)
-                            .toList();
-
-                    // 5. Builder를 사용해 모든 정보를 담아 DTO를 생성합니다.
-                    return GuideResponseDto.builder()
-                            .id(guide.getId())
-                            .tip(guide.getTip())
-                            .author(MemberDto.fromEntity(guide.getAuthor())) // 이 부분이 id만 가져오는게 아니라 객체 전체 가져오는거라 LazyLoading
-                            .locationName(guide.getLocation().getLocationName())
-                            .media(mediaDto)
-                            .likeCount(guide.getLikeCount())
-                            .build();
-                })
+        return SliceResponse.<GuideResponseDto>builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? page.get(page.size() - 1).encode() : null)
+                .size(content.size())
+                .first(after == null)
+                .build();
+    }
+
+    /**
+     * 반경 제한 없이 가까운 Guide limit개 (지도 화면용, KNN)
+     * 밀집 지역에서도 반경 안 전체가 아니라 geography GiST 인덱스에서 구면 거리 상위 K개만 읽음
+     * guide_feed가 준비됐으면 feed만, 아니면 location + guide 조인 (guide 없는 POI도 훑음)
+     *
+     * @param limit 개수 (1 ~ MAX_NEAREST_LIMIT)
+     */
+    @Transactional(readOnly = true)
+    public List<GuideResponseDto> findGuidesNearest(double lat, double lng, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_NEAREST_LIMIT));
+
+        if (guideFeedService.isReady()) {
+            return guideFeedService.findNearest(lat, lng, size).stream()
+                    .map(GuideFeedService.Hit::guide)
+                    .toList();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        List<GuideDistanceView> nearest = locationRepository.findNearestGuides(lat, lng, size);
+        for (int i = 0; i < nearest.size(); i++) {
+            rank.put(nearest.get(i).getGuideId(), i);
+        }
+        return guideRepository.findResponsesByIds(rank.keySet()).stream()
+                .sorted(Comparator.comparingInt(dto -> rank.get(dto.getId())))
                 .toList();
+    }
 
-        log.info("✅ 최종 반환 GuideDto 수: {}", result.size());
-        return result;
+    private List<NearbyCursor> nearbyWindowFromDb(double lat, double lng, double radius,
+                                                  NearbyCursor after, int limit) {
+        return guideRepository.findNearbyGuideIdsAfter(
+                        lat, lng, radius,
+                        after != null ? after.distanceKm() : -1,
+                        after != null ? after.guideId() : 0L,
+                        limit
+                ).stream()
+                .map(view -> new NearbyCursor(view.getDistanceKm(), view.getGuideId()))
+                .toList();
+    }
+
+    /**
+     * 인메모리 공간 인덱스로 반경 검색 후 Guide ID로 바로 로딩 (Location 조회 쿼리 생략)
+     * 결과는 가까운 순으로 정렬
+     */
+    private List<GuideResponseDto> findGuidesNearFromIndex(double lat, double lng, double radius) {
+        List<GeoGridIndex.Hit> hits = guideSpatialIndex.findWithin(lat, lng, radius);
+        log.info("📌 [GuideSpatialIndex] 반환된 Guide 수: {}", hits.size());
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            rank.put(hits.get(i).id(), i);
+        }
+
+        return findResponsesByIds(rank.keySet()).stream()
+                .sorted(Comparator.comparingInt(dto -> rank.get(dto.getId())))
+                .toList();
+    }
+
+    private List<GuideResponseDto> findResponsesByIds(Set<Long> guideIds) {
+        return guideFeedService.isReady()
+                ? guideFeedService.findByIds(guideIds)
+                : guideRepository.findResponsesByIds(guideIds);
+    }
+
+    /**
+     * PostGIS 반경 검색 (인덱스 적재 전 / 비활성화 시 폴백)
+     * guide_feed가 준비됐으면 feed 한 테이블 스캔, 아니면 geography 반경 검색 후 Projection 조회 (가까운 순)
+     */
+    private List<GuideResponseDto> findGuidesNearFromDb(double lat, double lng, double radius) {
+        if (guideFeedService.isReady()) {
+            return guideFeedService.findNearby(lat, lng, radius, null, Integer.MAX_VALUE).stream()
+                    .map(GuideFeedService.Hit::guide)
+                    .toList();
+        }
+
+        // 미터 반경 그대로 geography 검색 (degree 근사로 생기던 경도 방향 초과 조회 없음)
+        List<GuideDistanceView> hits = locationRepository.findNearbyGuidesGeography(lat, lng, radius * 1000);
+        log.info("📌 [findNearbyGuidesGeography] 반환된 Guide 수: {}", hits.size());
+
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            rank.put(hits.get(i).getGuideId(), i);
+        }
+        return guideRepository.findResponsesByIds(rank.keySet()).stream()
+                .sorted(Comparator.comparingInt(dto -> rank.get(dto.getId())))
+                .toList();
     }
 
     // 게시글 상세 조회 (사용자 좋아요 정보 포함)
@@ -309,50 +429,123 @@ public class GuideService {
 
         // 인증된 사용자인 경우에만 좋아요 정보 조회
         if (userDetails != null) {
-            Member member = memberRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
-            userHasLiked = guideLikeRepository.findByMemberAndGuide(member, guide).isPresent();
+            Long memberId = memberIdCache.getMemberId(userDetails.getUsername());
+            userHasLiked = guideLikeRepository.existsByMemberIdAndGuideId(memberId, guideId);
         }
 
-        return GuideResponseDto.of(guide, userHasLiked);
+        GuideResponseDto dto = GuideResponseDto.of(guide, userHasLiked);
+        // 아직 flush 전인 좋아요 변화량 포함
+        dto.setLikeCount((int) Math.max(0, dto.getLikeCount() + guideLikeCounter.pendingDelta(guideId)));
+        return dto;
     }
 
 
 
     /**
-     * 좋아요 토글 (원자적 업데이트로 동시성 문제 해결)
+     * 좋아요 토글
      *
      * 최적화 포인트:
-     * 1. existsById 제거 → FK 제약조건이 guideId 유효성 검증
-     * 2. ID 기반 쿼리 사용 → 프록시 초기화 없이 직접 쿼리
-     * 3. @Modifying(flushAutomatically, clearAutomatically) → 영속성 컨텍스트 동기화
+     * 1. 취소(DELETE) 먼저 시도 → 지운 행이 없으면 추가 (존재 여부 SELECT 없음)
+     * 2. INSERT/DELETE와 like_count 조회를 쿼리 1회로 (Guide 상세 재조회 없음)
+     * 3. guide.like_count는 여기서 UPDATE하지 않음 → 커밋 후 GuideLikeCounter가 모아서 반영 (인기 Guide 행 잠금 경합 제거)
+     */
+    @Transactional
+    public LikeResultDto toggleLike(Long guideId, @AuthenticationPrincipal UserDetails userDetails) {
+        Long memberId = requireMemberId(userDetails);
+
+        LikeResultDto unliked = applyLike(memberId, guideId, false, null);
+        if (unliked.getStatus() == LikeResultDto.Status.APPLIED || unliked.getStatus() == LikeResultDto.Status.NOT_FOUND) {
+            return unliked;
+        }
+        return applyLike(memberId, guideId, true, null);
+    }
+
+    /**
+     * 좋아요 / 취소를 지정한 상태로 (멱등, 같은 요청을 다시 보내도 결과 동일)
+     */
+    @Transactional
+    public LikeResultDto setLike(Long guideId, boolean liked, UserDetails userDetails) {
+        return applyLike(requireMemberId(userDetails), guideId, liked, null);
+    }
+
+    /**
+     * 오프라인 큐 일괄 처리: Guide별 마지막 작업만 반영 (Guide당 쿼리 1회)
+     * 결과는 요청 작업 순서대로, 앞선 작업은 SUPERSEDED + 최종 상태
      */
     @Transactional
-    public boolean toggleLike(Long guideId, @AuthenticationPrincipal UserDetails userDetails) {
+    public List<LikeResultDto> applyLikes(List<LikeBatchRequestDto.Operation> operations, UserDetails userDetails) {
+        if (operations == null || operations.isEmpty()) {
+            return List.of();
+        }
+        if (operations.size() > MAX_LIKE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 좋아요 작업은 최대 " + MAX_LIKE_BATCH_SIZE + "개입니다.");
+        }
+        Long memberId = requireMemberId(userDetails);
+
+        // Guide별 마지막 작업 위치
+        Map<Long, Integer> lastIndexByGuide = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            Long guideId = operations.get(i).getGuideId();
+            if (guideId == null) {
+                throw new IllegalArgumentException("guideId는 필수입니다.");
+            }
+            lastIndexByGuide.put(guideId, i);
+        }
+
+        Map<Long, LikeResultDto> finalResults = new HashMap<>();
+        lastIndexByGuide.forEach((guideId, index) -> {
+            LikeBatchRequestDto.Operation op = operations.get(index);
+            finalResults.put(guideId, applyLike(memberId, guideId, op.isLiked(), op.getOpId()));
+        });
+
+        return IntStream.range(0, operations.size())
+                .mapToObj(i -> {
+                    LikeBatchRequestDto.Operation op = operations.get(i);
+                    LikeResultDto result = finalResults.get(op.getGuideId());
+                    if (lastIndexByGuide.get(op.getGuideId()) == i || result.getStatus() == LikeResultDto.Status.NOT_FOUND) {
+                        return result.toBuilder().opId(op.getOpId()).build();
+                    }
+                    return result.toBuilder().opId(op.getOpId()).status(LikeResultDto.Status.SUPERSEDED).build();
+                })
+                .toList();
+    }
+
+    private LikeResultDto applyLike(Long memberId, Long guideId, boolean liked, String opId) {
+        Optional<GuideLikeWriteView> written = liked
+                ? guideLikeRepository.likeReturningCount(memberId, guideId)
+                : guideLikeRepository.unlikeReturningCount(memberId, guideId);
+        if (written.isEmpty()) {
+            return LikeResultDto.builder()
+                    .opId(opId)
+                    .guideId(guideId)
+                    .liked(false)
+                    .status(LikeResultDto.Status.NOT_FOUND)
+                    .build();
+        }
+
+        GuideLikeWriteView view = written.get();
+        boolean changed = view.getChanged() > 0;
+        int delta = changed ? (liked ? 1 : -1) : 0;
+        if (changed) {
+            eventPublisher.publishEvent(new GuideLikeChangedEvent(guideId, delta));
+        }
+        // DB 값 + flush 전 변화량 + 이번 변경 (이번 변경은 커밋 후에 카운터에 들어감)
+        long likeCount = view.getLikeCount() + guideLikeCounter.pendingDelta(guideId) + delta;
+        return LikeResultDto.builder()
+                .opId(opId)
+                .guideId(guideId)
+                .liked(liked)
+                .likeCount((int) Math.max(0, likeCount))
+                .status(changed ? LikeResultDto.Status.APPLIED : LikeResultDto.Status.UNCHANGED)
+                .build();
+    }
+
+    private Long requireMemberId(UserDetails userDetails) {
         // 인증되지 않은 사용자 체크
         if (userDetails == null) {
             throw new IllegalArgumentException("로그인이 필요한 서비스입니다.");
         }
-
-        Member member = memberRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new UsernameNotFoundException("사용자 정보를 찾을 수 없습니다."));
-
-        // ID 기반 쿼리로 좋아요 존재 여부 확인 (프록시 초기화 없음)
-        boolean likeExists = guideLikeRepository.existsByMemberIdAndGuideId(member.getId(), guideId);
-
-        if (likeExists) {
-            // 좋아요가 이미 존재하면 -> 좋아요 취소
-            guideLikeRepository.deleteByMemberIdAndGuideId(member.getId(), guideId);
-            guideRepository.decrementLikeCount(guideId);  // 원자적 감소
-            return false;
-        } else {
-            // 좋아요가 없으면 -> 좋아요 추가
-            // getReferenceById: DB 조회 없이 프록시만 생성 (INSERT용 FK 참조)
-            Guide guideRef = guideRepository.getReferenceById(guideId);
-            guideLikeRepository.save(new GuideLike(member, guideRef));
-            guideRepository.incrementLikeCount(guideId);  // 원자적 증가
-            return true;
-        }
+        return memberIdCache.getMemberId(userDetails.getUsername());
     }
 
     // 중복 코드를 줄이기 위한 private 메서드
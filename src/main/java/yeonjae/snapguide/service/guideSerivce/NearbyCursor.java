@@ -0,0 +1,47 @@
+package yeonjae.snapguide.service.guideSerivce;
+
+import yeonjae.snapguide.exception.CustomException;
+import yeonjae.snapguide.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 거리순 페이징용 커서 (distanceKm, guideId)
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출 (opaque)
+ *
+ * 정렬 기준: distanceKm ASC, guideId ASC
+ *
+ * @param distanceKm 이전 페이지 마지막 항목의 거리 (km)
+ * @param guideId    이전 페이지 마지막 항목의 Guide ID (동일 거리 tie-break)
+ */
+public record NearbyCursor(double distanceKm, long guideId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * 커서 문자열 해석 (첫 페이지면 null 반환)
+     */
+    public static NearbyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new NearbyCursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        // Double.toString은 동일한 double 값으로 정확히 복원됨 (키셋 비교 시 오차 없음)
+        String raw = Double.toString(distanceKm) + ":" + guideId;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
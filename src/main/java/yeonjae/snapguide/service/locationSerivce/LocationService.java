@@ -1,6 +1,7 @@
 package yeonjae.snapguide.service.locationSerivce;
 
 import yeonjae.snapguide.domain.location.Location;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 
 import java.io.File;
 import java.io.InputStream;
@@ -9,6 +10,9 @@ public interface LocationService {
 //    public Location extractAndResolveLocation(File file);
     public Location extractAndResolveLocation(byte[] imageBytes);
 
+    // 업로드 시 한 번 파싱한 메타데이터 재사용
+    public Location extractAndResolveLocation(ParsedImageMetadata metadata);
+
     public Location saveLocation(Double lat, Double lng);
 
 }
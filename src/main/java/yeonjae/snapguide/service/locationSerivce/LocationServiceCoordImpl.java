@@ -5,10 +5,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.domain.location.GeometryUtils;
 import yeonjae.snapguide.domain.location.Location;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ExifCoordinateExtractor;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.repository.locationRepository.LocationRepository;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.util.List;
@@ -25,7 +24,11 @@ public class LocationServiceCoordImpl implements LocationService{
      */
 
     public Location extractAndResolveLocation(byte[] imageBytes) {
-        Optional<double[]> coordinate = ExifCoordinateExtractor.extractCoordinate(new ByteArrayInputStream(imageBytes));
+        return extractAndResolveLocation(ParsedImageMetadata.parse(imageBytes));
+    }
+
+    public Location extractAndResolveLocation(ParsedImageMetadata metadata) {
+        Optional<double[]> coordinate = metadata.coordinate();
         if (coordinate.isEmpty()) {
             return null;
         }
@@ -2,16 +2,17 @@ package yeonjae.snapguide.service.locationSerivce;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import yeonjae.snapguide.domain.location.Location;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ExifCoordinateExtractor;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.repository.locationRepository.LocationRepository;
 import yeonjae.snapguide.service.ReverseGeocodingService;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -22,44 +23,71 @@ public class LocationServiceGeoImpl implements LocationService {
     private final ReverseGeocodingService reverseGeocodingService;
     // 좌표 값 추출 && 저장
     public Location extractAndResolveLocation(byte[] imageBytes) {
-        Optional<double[]> coordinate = ExifCoordinateExtractor.extractCoordinate(new ByteArrayInputStream(imageBytes));
-        if (coordinate.isEmpty()) {
-            return null;
-        }
-        double[] latLng = coordinate.orElseThrow(() ->
-                new IllegalArgumentException("좌표 정보가 없습니다."));
+        return extractAndResolveLocation(ParsedImageMetadata.parse(imageBytes));
+    }
 
-        // Location이 존재할경우 처리
+    public Location extractAndResolveLocation(ParsedImageMetadata metadata) {
+        Location location = resolveLocation(metadata);
+        if (location == null || location.getId() != null) {
+            return location;
+        }
+        return locationRepository.save(location); // 아마 코드가 media까지 흘러 들어가서 CascadeType.PERSIST으로 저장될텐데, 그래도 혹시 몰라 넣어줌
+    }
 
-        List<Location> locationByCoordinate = locationRepository.findLocationByCoordinateNative(latLng[0], latLng[1]);
+    /**
+     * 좌표 → Location 조회/역지오코딩만 수행하고 저장하지 않음 (동기 버전, 레거시 업로드용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Location resolveLocation(ParsedImageMetadata metadata) {
+        return resolveLocationAsync(metadata).block();
+    }
 
-        if (!locationByCoordinate.isEmpty()) {
-            return locationByCoordinate.get(0); // NOTE : 일단 첫번째 데이터를 반환하는 걸로 해뒀는데,, 일단 어색하다.
+    /**
+     * 좌표 → Location 조회/역지오코딩만 수행하고 저장하지 않음 (병렬 업로드용)
+     * 기존 Location이면 영속 상태였던 엔티티(id 있음), 새 위치면 비영속 Location
+     * 좌표가 없으면 empty
+     *
+     * 좌표 조회 쿼리는 boundedElastic에서, 역지오코딩(HTTP)은 논블로킹으로 실행
+     * → 대기하는 동안 요청/작업 스레드와 DB 커넥션을 잡지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Location> resolveLocationAsync(ParsedImageMetadata metadata) {
+        Optional<double[]> coordinate = metadata.coordinate();
+        if (coordinate.isEmpty()) {
+            return Mono.empty();
         }
+        double[] latLng = coordinate.get();
+        return resolveLocationAsync(latLng[0], latLng[1]);
+    }
 
-        Location location = reverseGeocodingService.reverseGeocode(latLng[0], latLng[1]).block();
-        // 2. 해당 Guide 찾기 TODO : Media, Location과 Guide 연관관계 연결 해줘야함
-        if (location == null) {
-            throw new IllegalStateException("Reverse geocoding failed for lat=" + latLng[0] + ", lng=" + latLng[1]);
-        }
-        return locationRepository.save(location); // 아마 코드가 media까지 흘러 들어가서 CascadeType.PERSIST으로 저장될텐데, 그래도 혹시 몰라 넣어줌
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Location> resolveLocationAsync(double lat, double lng) {
+        // Location이 존재할경우 처리
+        return Mono.fromCallable(() -> locationRepository.findLocationByCoordinateNative(lat, lng))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(locationByCoordinate -> locationByCoordinate.isEmpty()
+                        ? reverseGeocodingService.reverseGeocode(lat, lng)
+                        : Mono.just(locationByCoordinate.get(0))) // NOTE : 일단 첫번째 데이터를 반환하는 걸로 해뒀는데,, 일단 어색하다.
+                .switchIfEmpty(Mono.error(() ->
+                        new IllegalStateException("Reverse geocoding failed for lat=" + lat + ", lng=" + lng)));
     }
 
     // 사용자가 지정한 좌표 값을 받아 location 저장, google map api
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Location saveLocation(Double lat, Double lng) {
-        // Location이 존재할경우 처리
-
-        List<Location> locationByCoordinate = locationRepository.findLocationByCoordinateNative(lat, lng);
-
-        if (!locationByCoordinate.isEmpty()) {
-            return locationByCoordinate.get(0); // NOTE : 일단 첫번째 데이터를 반환하는 걸로 해뒀는데,, 일단 어색하다.
-        }
+        return saveLocationAsync(lat, lng).block();
+    }
 
-        Location location = reverseGeocodingService.reverseGeocode(lat, lng).block();
-        if (location == null) {
-            throw new IllegalStateException("Reverse geocoding failed for lat=" + lat + ", lng=" + lng);
-        }
-        return locationRepository.save(location);
+    /**
+     * 역지오코딩을 기다리는 동안 트랜잭션을 열지 않고, 새 Location 저장만 짧은 트랜잭션(save)으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Location> saveLocationAsync(double lat, double lng) {
+        return resolveLocationAsync(lat, lng)
+                .flatMap(location -> location.getId() != null
+                        ? Mono.just(location)
+                        : Mono.fromCallable(() -> locationRepository.save(location))
+                                .subscribeOn(Schedulers.boundedElastic()));
     }
 
 }
@@ -71,6 +99,8 @@ public class LocationServiceGeoImpl implements LocationService {
  * 	•	서비스 계층에서는 가능하면 비동기로 .subscribe()나 .flatMap() 등을 사용하는 것이 더 안전합니다.
  *
  * 단, 지금처럼 단발성 위치 조회를 동기 흐름에서 처리하는 것은 제한적으로 block() 사용이 허용됩니다. 하지만 나중에 병렬 업로드나 Reactive 체계를 도입한다면 반드시 제거해야 합니다.
+ *
+ * → 업로드(MediaService)와 위치 저장 API는 resolveLocationAsync / saveLocationAsync 사용, block()은 레거시 동기 경로에만 남음
  */
 
 /**
@@ -0,0 +1,134 @@
+package yeonjae.snapguide.service.locationSerivce;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import yeonjae.snapguide.domain.location.GeometryUtils;
+import yeonjae.snapguide.domain.location.Location;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
+import yeonjae.snapguide.infrastructure.spatial.OfflinePoiIndex;
+import yeonjae.snapguide.repository.locationRepository.LocationRepository;
+import yeonjae.snapguide.service.ReverseGeocodingService;
+
+import java.util.Optional;
+
+/**
+ * 관광지/POI 데이터(OfflinePoiIndex)로 먼저 위치 이름을 붙이고, 없을 때만 Google 역지오코딩
+ *
+ * 1. 같은 좌표의 기존 Location
+ * 2. poiRadiusKm 안의 가장 가까운 POI → 네트워크 없이 바로 반환
+ * 3. Google 역지오코딩 (ReverseGeocodingService)
+ * 4. Google이 주소를 주지 못하면(사용량 초과/시간 초과) regionRadiusKm 안의 행정구역으로 채움
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class LocationServiceOfflineImpl implements LocationService {
+    private final LocationRepository locationRepository;
+    private final ReverseGeocodingService reverseGeocodingService;
+    private final OfflinePoiIndex offlinePoiIndex;
+
+    @Value("${geocoding.offline.poi-radius-km:0.3}")
+    private double poiRadiusKm;
+
+    @Value("${geocoding.offline.region-radius-km:10}")
+    private double regionRadiusKm;
+
+    public Location extractAndResolveLocation(byte[] imageBytes) {
+        return extractAndResolveLocation(ParsedImageMetadata.parse(imageBytes));
+    }
+
+    public Location extractAndResolveLocation(ParsedImageMetadata metadata) {
+        Location location = resolveLocationAsync(metadata).block();
+        if (location == null || location.getId() != null) {
+            return location;
+        }
+        return locationRepository.save(location);
+    }
+
+    /**
+     * 좌표 → Location 조회만 수행하고 저장하지 않음 (LocationServiceGeoImpl.resolveLocationAsync와 동일한 계약)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Location> resolveLocationAsync(ParsedImageMetadata metadata) {
+        Optional<double[]> coordinate = metadata.coordinate();
+        if (coordinate.isEmpty()) {
+            return Mono.empty();
+        }
+        double[] latLng = coordinate.get();
+        return resolveLocationAsync(latLng[0], latLng[1]);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<Location> resolveLocationAsync(double lat, double lng) {
+        return Mono.fromCallable(() -> locationRepository.findLocationByCoordinateNative(lat, lng))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(locationByCoordinate -> {
+                    if (!locationByCoordinate.isEmpty()) {
+                        return Mono.just(locationByCoordinate.get(0));
+                    }
+                    return Mono.justOrEmpty(resolveOffline(lat, lng))
+                            .switchIfEmpty(Mono.defer(() -> reverseGeocodingService.reverseGeocode(lat, lng)))
+                            .map(location -> fillRegionIfMissing(location, lat, lng));
+                })
+                .switchIfEmpty(Mono.error(() ->
+                        new IllegalStateException("Reverse geocoding failed for lat=" + lat + ", lng=" + lng)));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Location saveLocation(Double lat, Double lng) {
+        return resolveLocationAsync(lat, lng)
+                .flatMap(location -> location.getId() != null
+                        ? Mono.just(location)
+                        : Mono.fromCallable(() -> locationRepository.save(location))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                .block();
+    }
+
+    private Optional<Location> resolveOffline(double lat, double lng) {
+        return offlinePoiIndex.nearestPoi(lat, lng, poiRadiusKm)
+                .map(match -> toLocation(match.poi(), lat, lng, true));
+    }
+
+    private Location fillRegionIfMissing(Location location, double lat, double lng) {
+        if (location.getFormattedAddress() != null || location.getLocationName() != null) {
+            return location;
+        }
+        return offlinePoiIndex.nearestRegion(lat, lng, regionRadiusKm)
+                .map(match -> toLocation(match.poi(), lat, lng, false))
+                .orElse(location);
+    }
+
+    /**
+     * @param named true면 POI 이름/주소까지, false면 행정구역만 사용
+     */
+    private static Location toLocation(OfflinePoiIndex.Poi poi, double lat, double lng, boolean named) {
+        Location.LocationBuilder builder = Location.builder()
+                .coordinate(GeometryUtils.createPoint(lat, lng))
+                .provider(poi.provider())
+                .region(poi.region())
+                .city(poi.city())
+                .subRegion(poi.subRegion());
+        if (poi.hasRegion()) {
+            builder.countryCode("KR").country("South Korea"); // 관광지 데이터는 한국만
+        }
+        if (named) {
+            builder.locationName(poi.name())
+                    .formattedAddress(poi.address() != null ? poi.address() : poi.name());
+        } else {
+            builder.formattedAddress(joinRegion(poi));
+        }
+        return builder.build();
+    }
+
+    private static String joinRegion(OfflinePoiIndex.Poi poi) {
+        StringBuilder sb = new StringBuilder(poi.region());
+        if (poi.city() != null) sb.append(' ').append(poi.city());
+        if (poi.subRegion() != null) sb.append(' ').append(poi.subRegion());
+        return sb.toString();
+    }
+}
@@ -5,8 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.domain.cameraModel.CameraModel;
 import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.CameraModelExtractor;
-import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ExifExtractor;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.repository.cameraModelRepository.CameraModelRepository;
 import yeonjae.snapguide.repository.mediaMetaDataRepository.MediaMetaDataRepository;
 import yeonjae.snapguide.service.cameraModelService.CameraModelService;
@@ -25,9 +24,16 @@ public class MediaMetaDataService {
     private final MediaMetaDataRepository mediaMetaDataRepository;
     private final CameraModelService cameraModelService;
     public MediaMetaData extractAndSave(byte[] imageBytes) {
+        return extractAndSave(ParsedImageMetadata.parse(imageBytes));
+    }
+
+    /**
+     * 업로드 시 한 번 파싱한 메타데이터를 재사용 (EXIF 재파싱 없음)
+     */
+    public MediaMetaData extractAndSave(ParsedImageMetadata parsed) {
         // EXIF 메타데이터 추출
-        MediaMetaData metaData = ExifExtractor.extract(imageBytes); // NOTE : InputStream에서 byte[]로 비꾸고 있는데, 일단 얘는 이대로 사용
-        CameraModel cameraModel = cameraModelService.save(imageBytes); // Note : 얘도 마찬가지
+        MediaMetaData metaData = parsed.toMediaMetaData();
+        CameraModel cameraModel = cameraModelService.save(parsed);
         // CameraModel 을 MediaMetaData에 연결
         metaData.assignCameraModel(cameraModel);
         return mediaMetaDataRepository.save(metaData);
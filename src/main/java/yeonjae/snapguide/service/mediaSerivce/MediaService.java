@@ -2,28 +2,40 @@ package yeonjae.snapguide.service.mediaSerivce;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Point;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.domain.media.MediaDto;
 import yeonjae.snapguide.domain.media.MediaMapper;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
 import yeonjae.snapguide.domain.mediaMetaData.MediaMetaData;
+import yeonjae.snapguide.repository.locationRepository.LocationRepository;
 import yeonjae.snapguide.repository.mediaRepository.MediaRepository;
-import yeonjae.snapguide.service.fileStorageService.AsyncFileProcessingService;
+import yeonjae.snapguide.service.fileStorageService.DerivativeJobService;
 import yeonjae.snapguide.service.fileStorageService.FileStorageService;
 import yeonjae.snapguide.service.fileStorageService.UploadFileDto;
+import yeonjae.snapguide.service.fileStorageService.UploadSpillStore;
 import yeonjae.snapguide.service.guideSerivce.GuideService;
-import yeonjae.snapguide.service.locationSerivce.LocationServiceGeoImpl;
+import yeonjae.snapguide.service.locationSerivce.LocationServiceOfflineImpl;
 import yeonjae.snapguide.service.mediaMetaDataSerivce.MediaMetaDataService;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,73 +44,169 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MediaService {
     private final FileStorageService fileStorageService;
-    private final AsyncFileProcessingService asyncFileProcessingService;
+    private final DerivativeJobService derivativeJobService;
     private final MediaMetaDataService mediaMetaDataService;
-    private final LocationServiceGeoImpl locationServiceGeoImpl;
+    private final LocationServiceOfflineImpl locationServiceOfflineImpl;
     private final GuideService guideService;
     private final MediaRepository mediaRepository;
+    private final LocationRepository locationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UploadSpillStore uploadSpillStore;
+    private final Executor uploadProcessingExecutor;
 
     /**
      * 빠른 업로드: 원본만 저장 후 즉시 응답, 썸네일/웹용은 비동기 처리
      * Guide와 함께 사용 시 내부적으로 Media 엔티티 생성 및 연결
      *
-     * @return 저장된 Media 엔티티 리스트 (Guide 연결용)
+     * 1단계 (파일별 병렬, uploadProcessingExecutor): 타입 감지/HEIC 변환, 원본 업로드, EXIF 파싱
+     *       이어서 위치 조회/역지오코딩 (논블로킹, 같은 좌표 동시 요청은 1회로 합침)
+     * 2단계 (짧은 트랜잭션 1회): MediaMetaData, Location, Media, 파생 파일 작업(DerivativeJob) 일괄 저장
+     * 3단계 (커밋 후): 파생 파일 작업 큐 즉시 폴링 (실패/재시작 시에도 작업은 DB에 남음)
+     *
+     * 1단계 중에는 트랜잭션/DB 커넥션을 잡지 않음 (위치 조회 쿼리 제외)
+     * 원본은 byte[]로 들고 다니지 않고 저장된 파일 경로(sourceFile)만 전달
+     *
+     * @return 저장된 Media 엔티티 리스트 (Guide 연결용, 요청 파일 순서 유지)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Media> saveAllAndGet(List<MultipartFile> files) throws IOException {
-        List<Media> savedMediaList = new ArrayList<>();
-        List<AsyncTask> asyncTasks = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
 
-        for (MultipartFile file : files) {
-            long startTime = System.currentTimeMillis();
+        // 1. 파일별 병렬 처리 (DB 쓰기 없음)
+        List<CompletableFuture<PreparedUpload>> futures = files.stream()
+                .map(this::prepareUploadAsync)
+                .toList();
+        List<PreparedUpload> prepared = awaitAll(futures);
+
+        // 2. DB 저장은 마지막에 한 트랜잭션으로
+        List<Media> savedMediaList;
+        try {
+            savedMediaList = transactionTemplate.execute(status -> persistAll(prepared));
+        } catch (RuntimeException e) {
+            // 롤백되면 원본을 가리키는 Media가 없으므로 awaitAll 실패와 같이 원본까지 정리
+            prepared.forEach(this::deleteOriginalQuietly);
+            throw e;
+        }
+
+        // 3. 커밋 이후 작업 큐 폴링 (다음 주기를 기다리지 않고 바로 시작)
+        derivativeJobService.poll();
+
+        log.info("[Upload] {} media saved in {}ms (async derivatives pending)",
+                savedMediaList.size(), System.currentTimeMillis() - startTime);
+        return savedMediaList;
+    }
 
-            // 1. 원본만 빠르게 업로드 (동기)
+    /**
+     * 파일 1개 처리 (DB 쓰기 없음)
+     * 원본 업로드 + EXIF 파싱은 작업 스레드에서, 위치 조회는 이어서 비동기로 (역지오코딩 응답을 기다리며 스레드를 잡지 않음)
+     * 위치 조회가 실패하면 이미 올린 원본 정리
+     */
+    private CompletableFuture<PreparedUpload> prepareUploadAsync(MultipartFile file) {
+        return CompletableFuture.supplyAsync(() -> uploadAndParse(file), uploadProcessingExecutor)
+                .thenCompose(upload -> locationServiceOfflineImpl.resolveLocationAsync(upload.parsed())
+                        .map(upload::withLocation)
+                        .defaultIfEmpty(upload)
+                        .toFuture()
+                        .whenComplete((result, e) -> {
+                            if (e != null) {
+                                deleteOriginalQuietly(upload);
+                            }
+                        }));
+    }
+
+    private PreparedUpload uploadAndParse(MultipartFile file) {
+        try {
             UploadFileDto savedFile = fileStorageService.uploadOriginalOnly(file);
+            ParsedImageMetadata parsed = savedFile.getParsedMetadata() != null
+                    ? savedFile.getParsedMetadata()
+                    : savedFile.getSourceFile() != null
+                    ? ParsedImageMetadata.parse(savedFile.getSourceFile())
+                    : ParsedImageMetadata.parse(savedFile.getOriginalFileBytes());
+            return new PreparedUpload(file.getOriginalFilename(), file.getSize(), savedFile, parsed, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            // 2. 메타데이터 & 위치 정보 추출
-            MediaMetaData metaData = mediaMetaDataService.extractAndSave(savedFile.getOriginalFileBytes());
-            Location location = locationServiceGeoImpl.extractAndResolveLocation(savedFile.getOriginalFileBytes());
+    /**
+     * 모든 파일 처리 완료 대기. 하나라도 실패하면 성공한 원본 파일을 정리하고 예외 전파
+     */
+    private List<PreparedUpload> awaitAll(List<CompletableFuture<PreparedUpload>> futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.stream()
+                    .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .forEach(this::deleteOriginalQuietly);
 
-            // 3. 임시 URL (원본 파일 기반) - 비동기 처리 완료 후 업데이트됨
-            String tempUrl = "/media/files/" + savedFile.getBaseFileName() + ".jpg";
+            Throwable cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause() : e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("파일 업로드 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private List<Media> persistAll(List<PreparedUpload> prepared) {
+        // 같은 요청 안에서 같은 좌표의 새 Location은 하나만 저장
+        Map<Point, Location> newLocations = new HashMap<>();
+        Map<Long, Location> existingLocations = new HashMap<>();
+        List<Media> mediaList = new ArrayList<>(prepared.size());
+
+        for (PreparedUpload upload : prepared) {
+            MediaMetaData metaData = mediaMetaDataService.extractAndSave(upload.parsed());
+
+            Location location = upload.location();
+            if (location != null && location.getId() == null) {
+                location = newLocations.computeIfAbsent(location.getCoordinate(), key -> upload.location());
+            } else if (location != null) {
+                // 작업 스레드에서 조회한 Location은 준영속 상태 → 현재 영속성 컨텍스트로 다시 조회 (PK 조회)
+                Location detached = location;
+                location = existingLocations.computeIfAbsent(detached.getId(),
+                        id -> locationRepository.findById(id).orElseThrow(
+                                () -> new IllegalStateException("Location not found: " + id)));
+            }
+
+            // 임시 URL (원본 파일 기반) - 비동기 처리 완료 후 업데이트됨
+            String tempUrl = "/media/files/" + upload.savedFile().getBaseFileName() + ".jpg";
 
-            // 4. Media 엔티티 저장
             Media media = Media.builder()
-                    .mediaName(file.getOriginalFilename())
+                    .mediaName(upload.originalFilename())
                     .mediaUrl(tempUrl)
-                    .originalKey(savedFile.getOriginalKey())
+                    .originalKey(upload.savedFile().getOriginalKey())
                     .webKey(null)        // 비동기 처리 후 업데이트
                     .thumbnailKey(null)  // 비동기 처리 후 업데이트
-                    .fileSize(file.getSize())
+                    .fileSize(upload.fileSize())
                     .build();
 
-            media.assignMedia(metaData, location);
-            mediaRepository.save(media);
-            savedMediaList.add(media);
-
-            // 5. 비동기 작업 예약
-            asyncTasks.add(new AsyncTask(
-                    media.getId(),
-                    savedFile.getBaseFileName(),
-                    savedFile.getOriginalFileBytes()
-            ));
-
-            long elapsed = System.currentTimeMillis() - startTime;
-            log.info("[Upload] Media {} saved in {}ms (async derivatives pending)", media.getId(), elapsed);
+            media.assignMedia(metaData, location); // 새 Location은 CascadeType.PERSIST로 함께 저장
+            mediaList.add(media);
         }
-
-        // 6. 비동기 작업 시작
-        for (AsyncTask task : asyncTasks) {
-            asyncFileProcessingService.generateDerivativesAsync(
-                    task.mediaId, task.baseFileName, task.originalBytes
-            );
+        List<Media> saved = mediaRepository.saveAll(mediaList);
+        for (int i = 0; i < saved.size(); i++) {
+            derivativeJobService.enqueue(saved.get(i), prepared.get(i).savedFile());
         }
+        return saved;
+    }
 
-        return savedMediaList;
+    private void deleteOriginalQuietly(PreparedUpload upload) {
+        uploadSpillStore.release(upload.savedFile().getSourceFile());
+        try {
+            fileStorageService.deleteFile(upload.savedFile().getOriginalKey());
+        } catch (Exception e) {
+            log.warn("[Upload] Failed to clean up original {}", upload.savedFile().getOriginalKey(), e);
+        }
     }
 
     /**
      * 빠른 업로드 (ID만 반환) - 테스트/레거시 호환용
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Long> saveAll(List<MultipartFile> files) throws IOException {
         return saveAllAndGet(files).stream()
                 .map(Media::getId)
@@ -115,8 +223,9 @@ public class MediaService {
         for (MultipartFile file : files) {
             @SuppressWarnings("deprecation")
             UploadFileDto savedFile = fileStorageService.uploadFile(file);
-            MediaMetaData metaData = mediaMetaDataService.extractAndSave(savedFile.getOriginalFileBytes());
-            Location location = locationServiceGeoImpl.extractAndResolveLocation(savedFile.getOriginalFileBytes());
+            ParsedImageMetadata parsed = ParsedImageMetadata.parse(savedFile.getOriginalFileBytes());
+            MediaMetaData metaData = mediaMetaDataService.extractAndSave(parsed);
+            Location location = locationServiceOfflineImpl.extractAndResolveLocation(parsed);
 
             String webFileName;
             if (savedFile.getWebDir() != null && !savedFile.getWebDir().isEmpty()) {
@@ -143,7 +252,12 @@ public class MediaService {
         return ids;
     }
 
-    private record AsyncTask(Long mediaId, String baseFileName, byte[] originalBytes) {}
+    private record PreparedUpload(String originalFilename, long fileSize, UploadFileDto savedFile,
+                                  ParsedImageMetadata parsed, Location location) {
+        PreparedUpload withLocation(Location location) {
+            return new PreparedUpload(originalFilename, fileSize, savedFile, parsed, location);
+        }
+    }
 
     /**
      * 모든 Media를 DTO로 반환
@@ -2,11 +2,14 @@ package yeonjae.snapguide.service.memberSerivce;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.domain.guide.Guide;
+import yeonjae.snapguide.domain.guide.GuideChangedEvent;
 import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.domain.member.Member;
+import yeonjae.snapguide.domain.member.MemberDeletedEvent;
 import yeonjae.snapguide.domain.member.dto.MemberDto;
 import yeonjae.snapguide.domain.member.dto.MemberRequestDto;
 import yeonjae.snapguide.exception.CustomException;
@@ -38,6 +41,7 @@ public class MemberService {
     private final GuideRepository guideRepository;
     private final MediaRepository mediaRepository;
     private final GuideService guideService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<MemberDto> getAllMembers() {
         return memberRepository.findAll().stream()
@@ -57,11 +61,13 @@ public class MemberService {
         // DB 삭제는 JPA cascade가 처리하므로, S3 파일 삭제에만 집중합니다.
         for (Guide guide : member.getGuides()) {
             guideService.deleteGuideMediaFiles(guide); // GuideService의 삭제 로직 재사용
+            eventPublisher.publishEvent(GuideChangedEvent.deleted(guide));
         }
 
         // 3. Member만 삭제
         // cascade 설정에 따라 이 Member와 연관된 모든 Guide, Media, Location 등이 DB에서 자동으로 삭제됩니다.
         memberRepository.delete(member);
+        eventPublisher.publishEvent(new MemberDeletedEvent(email));
         log.info("Member deletion successful for: {}", email);
     }
 }
@@ -15,10 +15,15 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
 import yeonjae.snapguide.controller.guideController.guideDto.GuideUpdateRequestDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeBatchRequestDto;
+import yeonjae.snapguide.controller.guideController.guideDto.LikeResultDto;
+import yeonjae.snapguide.controller.guideController.guideDto.SliceResponse;
 import yeonjae.snapguide.domain.member.Member;
 import yeonjae.snapguide.domain.member.dto.MemberDto;
+import yeonjae.snapguide.infrastructure.cache.member.MemberIdCache;
 import yeonjae.snapguide.repository.memberRepository.MemberRepository;
 import yeonjae.snapguide.service.guideSerivce.GuideService;
+import yeonjae.snapguide.service.guideSerivce.NearbyCursor;
 import yeonjae.snapguide.service.mediaSerivce.MediaService;
 
 import java.util.*;
@@ -53,6 +58,9 @@ class GuideControllerTest {
     @MockBean
     private MemberRepository memberRepository;
 
+    @MockBean
+    private MemberIdCache memberIdCache;
+
     private UserDetails userDetails;
     private Member testMember;
 
@@ -76,8 +84,8 @@ class GuideControllerTest {
     @WithMockUser(username = "test@example.com")
     void getMyGuides_Success() throws Exception {
         // given
-        given(memberRepository.findByEmail("test@example.com"))
-                .willReturn(Optional.of(testMember));
+        given(memberIdCache.getMemberId("test@example.com"))
+                .willReturn(testMember.getId());
 
         MemberDto authorDto = MemberDto.builder()
                 .id(1L)
@@ -260,6 +268,67 @@ class GuideControllerTest {
         verify(guideService, times(1)).findGuidesNear(lat, lng, defaultRadius);
     }
 
+    @Test
+    @DisplayName("GET /guide/api/nearby/paged - 거리순 커서 페이징")
+    void getNearbyGuidesPaged_Success() throws Exception {
+        // given
+        double lat = 37.5665;
+        double lng = 126.9780;
+        String cursor = new NearbyCursor(1.25, 7L).encode();
+
+        SliceResponse<GuideResponseDto> slice = SliceResponse.<GuideResponseDto>builder()
+                .content(List.of(GuideResponseDto.builder().id(8L).tip("Paged guide").build()))
+                .hasNext(true)
+                .nextCursor(new NearbyCursor(1.5, 8L).encode())
+                .size(1)
+                .first(false)
+                .build();
+
+        given(guideService.findGuidesNearPaged(lat, lng, 20.0, cursor, 1))
+                .willReturn(slice);
+
+        // when & then
+        mockMvc.perform(get("/guide/api/nearby/paged")
+                        .param("lat", String.valueOf(lat))
+                        .param("lng", String.valueOf(lng))
+                        .param("cursor", cursor)
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].tip").value("Paged guide"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(new NearbyCursor(1.5, 8L).encode()));
+
+        verify(guideService, times(1)).findGuidesNearPaged(lat, lng, 20.0, cursor, 1);
+    }
+
+    @Test
+    @DisplayName("GET /guide/api/nearest - 가까운 가이드 N개")
+    void getNearestGuides_Success() throws Exception {
+        // given
+        double lat = 37.5665;
+        double lng = 126.9780;
+
+        given(guideService.findGuidesNearest(lat, lng, 2))
+                .willReturn(List.of(
+                        GuideResponseDto.builder().id(3L).tip("Closest").build(),
+                        GuideResponseDto.builder().id(1L).tip("Second").build()));
+
+        // when & then
+        mockMvc.perform(get("/guide/api/nearest")
+                        .param("lat", String.valueOf(lat))
+                        .param("lng", String.valueOf(lng))
+                        .param("limit", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(3))
+                .andExpect(jsonPath("$[1].id").value(1));
+
+        verify(guideService, times(1)).findGuidesNearest(lat, lng, 2);
+    }
+
     @Test
     @DisplayName("POST /guide/api/like/{id} - 가이드 좋아요 토글")
     @WithMockUser(username = "test@example.com")
@@ -268,22 +337,7 @@ class GuideControllerTest {
         Long guideId = 1L;
 
         given(guideService.toggleLike(eq(guideId), any(UserDetails.class)))
-                .willReturn(true);
-
-        MemberDto authorDto = MemberDto.builder()
-                .id(1L)
-                .email("test@example.com")
-                .build();
-
-        GuideResponseDto updatedGuide = GuideResponseDto.builder()
-                .id(guideId)
-                .tip("Test guide")
-                .author(authorDto)
-                .likeCount(6)
-                .build();
-
-        given(guideService.findGuideById(eq(guideId), any(UserDetails.class)))
-                .willReturn(updatedGuide);
+                .willReturn(likeResult(null, guideId, true, 6, LikeResultDto.Status.APPLIED));
 
         // when & then
         mockMvc.perform(post("/guide/api/like/{id}", guideId))
@@ -293,7 +347,8 @@ class GuideControllerTest {
                 .andExpect(jsonPath("$.likeCount").value(6));
 
         verify(guideService, times(1)).toggleLike(eq(guideId), any(UserDetails.class));
-        verify(guideService, times(1)).findGuideById(eq(guideId), any(UserDetails.class));
+        // 좋아요 수를 얻으려고 상세 조회를 다시 하지 않음
+        verify(guideService, never()).findGuideById(anyLong(), any());
     }
 
     @Test
@@ -304,22 +359,7 @@ class GuideControllerTest {
         Long guideId = 1L;
 
         given(guideService.toggleLike(eq(guideId), any(UserDetails.class)))
-                .willReturn(false);
-
-        MemberDto authorDto = MemberDto.builder()
-                .id(1L)
-                .email("test@example.com")
-                .build();
-
-        GuideResponseDto updatedGuide = GuideResponseDto.builder()
-                .id(guideId)
-                .tip("Test guide")
-                .author(authorDto)
-                .likeCount(4)
-                .build();
-
-        given(guideService.findGuideById(eq(guideId), any(UserDetails.class)))
-                .willReturn(updatedGuide);
+                .willReturn(likeResult(null, guideId, false, 4, LikeResultDto.Status.APPLIED));
 
         // when & then
         mockMvc.perform(post("/guide/api/like/{id}", guideId))
@@ -328,4 +368,42 @@ class GuideControllerTest {
                 .andExpect(jsonPath("$.liked").value(false))
                 .andExpect(jsonPath("$.likeCount").value(4));
     }
+
+    @Test
+    @DisplayName("POST /guide/api/like/batch - 오프라인 좋아요 작업 일괄 반영")
+    @WithMockUser(username = "test@example.com")
+    void batchLike_Success() throws Exception {
+        // given
+        LikeBatchRequestDto request = new LikeBatchRequestDto(List.of(
+                new LikeBatchRequestDto.Operation("op-1", 1L, true),
+                new LikeBatchRequestDto.Operation("op-2", 2L, false)));
+
+        given(guideService.applyLikes(anyList(), any(UserDetails.class)))
+                .willReturn(List.of(
+                        likeResult("op-1", 1L, true, 6, LikeResultDto.Status.APPLIED),
+                        likeResult("op-2", 2L, false, 0, LikeResultDto.Status.UNCHANGED)));
+
+        // when & then
+        mockMvc.perform(post("/guide/api/like/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].opId").value("op-1"))
+                .andExpect(jsonPath("$[0].status").value("APPLIED"))
+                .andExpect(jsonPath("$[1].status").value("UNCHANGED"));
+
+        verify(guideService, times(1)).applyLikes(anyList(), any(UserDetails.class));
+    }
+
+    private static LikeResultDto likeResult(String opId, Long guideId, boolean liked, int likeCount, LikeResultDto.Status status) {
+        return LikeResultDto.builder()
+                .opId(opId)
+                .guideId(guideId)
+                .liked(liked)
+                .likeCount(likeCount)
+                .status(status)
+                .build();
+    }
 }
@@ -9,6 +9,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 import yeonjae.snapguide.controller.locationController.locationDto.LocationRequestDto;
 import yeonjae.snapguide.domain.location.Location;
 import yeonjae.snapguide.service.locationSerivce.LocationServiceGeoImpl;
@@ -19,6 +21,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -62,19 +65,23 @@ class LocationControllerTest {
     @DisplayName("POST /location/api/upload - 위치 저장 성공")
     void saveLocation_Success() throws Exception {
         // given
-        given(locationServiceGeoImpl.saveLocation(anyDouble(), anyDouble()))
-                .willReturn(mockLocation);
+        given(locationServiceGeoImpl.saveLocationAsync(anyDouble(), anyDouble()))
+                .willReturn(Mono.just(mockLocation));
 
-        // when & then
-        mockMvc.perform(post("/location/api/upload")
+        // when & then: 비동기 응답 (Mono)
+        MvcResult result = mockMvc.perform(post("/location/api/upload")
                         .with(csrf())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(locationRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().string("위치 저장 완료"));
 
-        verify(locationServiceGeoImpl, times(1)).saveLocation(37.5665, 126.9780);
+        verify(locationServiceGeoImpl, times(1)).saveLocationAsync(37.5665, 126.9780);
     }
 
     @Test
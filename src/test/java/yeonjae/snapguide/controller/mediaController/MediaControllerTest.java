@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.TestPropertySource;
@@ -13,6 +14,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import yeonjae.snapguide.domain.media.Media;
 import yeonjae.snapguide.service.fileStorageService.FileStorageService;
 import yeonjae.snapguide.service.fileStorageService.MediaResponseDto;
+import yeonjae.snapguide.service.fileStorageService.MediaVariants;
 import yeonjae.snapguide.service.mediaSerivce.MediaService;
 
 import java.util.Arrays;
@@ -31,6 +33,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 미디어 업로드, 조회, 다운로드 기능 테스트
  */
 @WebMvcTest(MediaController.class)
+@Import(MediaVariants.class)
 @TestPropertySource(properties = {
         "storage.local.base-dir=/tmp/uploads"
 })
@@ -0,0 +1,47 @@
+package yeonjae.snapguide.domain.media.mediaUtil.exifExtrator;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.metadata.Metadata;
+import org.junit.jupiter.api.Test;
+import yeonjae.snapguide.domain.cameraModel.CameraModel;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedImageMetadataTest {
+
+    @Test
+    void jpeg_exif_only_parse_matches_full_parse() throws Exception {
+        // given
+        byte[] bytes = Files.readAllBytes(Path.of("src/test/resources/testImage/test-image1.jpg"));
+        Metadata full = ImageMetadataReader.readMetadata(new ByteArrayInputStream(bytes));
+
+        // when
+        ParsedImageMetadata parsed = ParsedImageMetadata.parse(bytes);
+
+        // then
+        Optional<double[]> expected = ExifCoordinateExtractor.extractCoordinate(full);
+        Optional<double[]> actual = parsed.coordinate();
+        assertEquals(expected.isPresent(), actual.isPresent());
+        expected.ifPresent(latLng -> assertArrayEquals(latLng, actual.get(), 1e-9));
+
+        CameraModel expectedModel = CameraModelExtractor.extract(full);
+        CameraModel actualModel = parsed.toCameraModel();
+        assertEquals(expectedModel.getManufacturer(), actualModel.getManufacturer());
+        assertEquals(expectedModel.getModel(), actualModel.getModel());
+    }
+
+    @Test
+    void invalid_bytes_return_empty_metadata() {
+        // when
+        ParsedImageMetadata parsed = ParsedImageMetadata.parse(new byte[]{(byte) 0xFF, (byte) 0xD8, 0x00});
+
+        // then
+        assertTrue(parsed.coordinate().isEmpty());
+        assertNotNull(parsed.toMediaMetaData());
+    }
+}
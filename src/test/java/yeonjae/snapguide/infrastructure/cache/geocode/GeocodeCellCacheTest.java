@@ -0,0 +1,80 @@
+package yeonjae.snapguide.infrastructure.cache.geocode;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import yeonjae.snapguide.domain.location.LocationDto;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class GeocodeCellCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValueOperations<String, Object> valueOperations;
+    private GeocodeCellCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        cache = new GeocodeCellCache(redisTemplate, objectMapper, 0.0005, 720, 300, 100);
+    }
+
+    @Test
+    void nearby_coordinates_share_a_cell() {
+        // 약 10m 떨어진 두 좌표 vs 약 100m 떨어진 좌표
+        assertEquals(cache.cellKey(37.56670, 126.97810), cache.cellKey(37.56679, 126.97819));
+        assertNotEquals(cache.cellKey(37.56670, 126.97810), cache.cellKey(37.56770, 126.97810));
+    }
+
+    @Test
+    void put_uses_short_ttl_for_negative_results() {
+        // given
+        String found = cache.cellKey(37.5665, 126.9780);
+        String notFound = cache.cellKey(35.2021, 128.7078);
+
+        // when
+        cache.put(found, CachedAddress.from(LocationDto.builder().formattedAddress("Seoul").build()));
+        cache.put(notFound, CachedAddress.notFound());
+
+        // then
+        verify(valueOperations).set(eq(found), anyString(), eq(Duration.ofHours(720)));
+        verify(valueOperations).set(eq(notFound), anyString(), eq(Duration.ofSeconds(300)));
+    }
+
+    @Test
+    void remote_hit_is_served_from_local_afterwards() throws Exception {
+        // given: 다른 인스턴스가 L2에 저장한 결과
+        String key = cache.cellKey(37.5665, 126.9780);
+        CachedAddress address = CachedAddress.from(LocationDto.builder().formattedAddress("Seoul").build());
+        when(valueOperations.get(key)).thenReturn(objectMapper.writeValueAsString(address));
+
+        // when
+        CachedAddress first = cache.get(key);
+        CachedAddress second = cache.get(key);
+
+        // then
+        assertEquals(address, first);
+        assertEquals(address, second);
+        verify(valueOperations, times(1)).get(key);
+    }
+
+    @Test
+    void redis_failure_is_treated_as_miss() {
+        // given
+        String key = cache.cellKey(37.5665, 126.9780);
+        when(valueOperations.get(key)).thenThrow(new IllegalStateException("connection refused"));
+
+        // when & then
+        assertNull(cache.get(key));
+    }
+}
@@ -0,0 +1,93 @@
+package yeonjae.snapguide.infrastructure.cache.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import yeonjae.snapguide.infrastructure.cache.twolevel.CacheInvalidationPublisher;
+import yeonjae.snapguide.repository.memberRepository.MemberRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MemberIdCacheTest {
+
+    private MemberRepository memberRepository;
+    private RedisTemplate<String, Object> redisTemplate;
+    private MemberIdCache memberIdCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        memberIdCache = new MemberIdCache(memberRepository, redisTemplate, 100, 10);
+    }
+
+    @Test
+    void member_id_is_loaded_once_per_email() {
+        // given
+        when(memberRepository.findIdByEmail("test@example.com")).thenReturn(Optional.of(1L));
+
+        // when
+        Long first = memberIdCache.getMemberId("test@example.com");
+        Long second = memberIdCache.getMemberId("test@example.com");
+
+        // then
+        assertEquals(1L, first);
+        assertEquals(1L, second);
+        verify(memberRepository, times(1)).findIdByEmail("test@example.com");
+    }
+
+    @Test
+    void unknown_email_is_not_cached() {
+        // given: 처음엔 없고, 가입 후 다시 조회
+        when(memberRepository.findIdByEmail("new@example.com"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(2L));
+
+        // when & then
+        assertThrows(UsernameNotFoundException.class, () -> memberIdCache.getMemberId("new@example.com"));
+        assertEquals(2L, memberIdCache.getMemberId("new@example.com"));
+    }
+
+    @Test
+    void evicted_email_is_loaded_again() {
+        // given: 탈퇴 후 같은 email로 재가입
+        when(memberRepository.findIdByEmail("test@example.com"))
+                .thenReturn(Optional.of(1L))
+                .thenReturn(Optional.of(3L));
+        memberIdCache.getMemberId("test@example.com");
+
+        // when
+        memberIdCache.evict("test@example.com");
+
+        // then
+        assertEquals(3L, memberIdCache.getMemberId("test@example.com"));
+    }
+
+    @Test
+    void eviction_is_broadcast_and_applied_from_other_instances() {
+        // given
+        when(memberRepository.findIdByEmail("test@example.com"))
+                .thenReturn(Optional.of(1L))
+                .thenReturn(Optional.of(3L));
+        memberIdCache.getMemberId("test@example.com");
+
+        // when: 이 인스턴스의 삭제는 발행, 다른 인스턴스가 발행한 메시지는 로컬에서 제거
+        memberIdCache.evict("other@example.com");
+        String body = "{\"origin\":\"other-instance\",\"cacheName\":\"memberIds\",\"keys\":[\"test@example.com\"]}";
+        memberIdCache.onMessage(new DefaultMessage(
+                CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationPublisher.CHANNEL), contains("other@example.com"));
+        assertEquals(3L, memberIdCache.getMemberId("test@example.com"));
+    }
+}
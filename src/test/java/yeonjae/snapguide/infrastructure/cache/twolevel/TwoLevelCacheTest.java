@@ -0,0 +1,79 @@
+package yeonjae.snapguide.infrastructure.cache.twolevel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCache remote;
+    private RedisTemplate<String, Object> redisTemplate;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        remote = new ConcurrentMapCache("nearbyGuides");
+        redisTemplate = mock(RedisTemplate.class);
+        cache = new TwoLevelCache(
+                "nearbyGuides",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                remote,
+                redisTemplate,
+                new CacheInvalidationPublisher(redisTemplate, new ObjectMapper())
+        );
+    }
+
+    @Test
+    void remote_hit_is_served_from_local_afterwards() {
+        // given
+        remote.put("1:2:20.0", List.of("guide"));
+        cache.get("1:2:20.0");
+
+        // when: L2에서 사라져도
+        remote.evict("1:2:20.0");
+
+        // then: L1에서 반환
+        assertEquals(List.of("guide"), cache.get("1:2:20.0").get());
+    }
+
+    @Test
+    void evict_removes_both_levels_and_publishes_invalidation() {
+        // given
+        cache.put("1:2:20.0", List.of("guide"));
+
+        // when
+        cache.evict("1:2:20.0");
+
+        // then
+        assertNull(cache.get("1:2:20.0"));
+        assertNull(remote.get("1:2:20.0"));
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationPublisher.CHANNEL), anyString());
+    }
+
+    @Test
+    void evictLocal_removes_only_local_entry() {
+        // given
+        cache.put("1:2:20.0", List.of("guide"));
+        cache.put("3:4:20.0", List.of("other"));
+
+        // when: 다른 인스턴스에서 받은 무효화 메시지
+        cache.evictLocal(List.of("1:2:20.0"));
+        remote.evict("3:4:20.0");
+
+        // then
+        assertEquals(List.of("guide"), cache.get("1:2:20.0").get()); // L2에서 다시 채워짐
+        assertEquals(List.of("other"), cache.get("3:4:20.0").get()); // L1 유지
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+}
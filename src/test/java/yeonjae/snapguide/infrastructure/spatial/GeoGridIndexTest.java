@@ -0,0 +1,65 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoGridIndexTest {
+
+    // 서울역, 시청, 강남역, 부산역
+    private static final double[] SEOUL_STATION = {37.5547, 126.9707};
+    private static final double[] CITY_HALL = {37.5663, 126.9779};
+    private static final double[] GANGNAM = {37.4979, 127.0276};
+    private static final double[] BUSAN_STATION = {35.1151, 129.0422};
+
+    @Test
+    void findWithin_returns_only_points_inside_radius_sorted_by_distance() {
+        // given
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(1L, GANGNAM[0], GANGNAM[1]);
+        index.put(2L, CITY_HALL[0], CITY_HALL[1]);
+        index.put(3L, BUSAN_STATION[0], BUSAN_STATION[1]);
+
+        // when
+        List<GeoGridIndex.Hit> hits = index.findWithin(SEOUL_STATION[0], SEOUL_STATION[1], 20);
+
+        // then
+        assertEquals(List.of(2L, 1L), hits.stream().map(GeoGridIndex.Hit::id).toList());
+        assertTrue(hits.get(0).distanceKm() < hits.get(1).distanceKm());
+    }
+
+    @Test
+    void put_moves_existing_entry_and_remove_deletes_it() {
+        // given
+        GeoGridIndex index = new GeoGridIndex(0.05);
+        index.put(1L, BUSAN_STATION[0], BUSAN_STATION[1]);
+
+        // when
+        index.put(1L, CITY_HALL[0], CITY_HALL[1]);
+
+        // then
+        assertEquals(1, index.size());
+        assertEquals(1, index.findWithin(SEOUL_STATION[0], SEOUL_STATION[1], 5).size());
+        assertTrue(index.findWithin(BUSAN_STATION[0], BUSAN_STATION[1], 5).isEmpty());
+
+        index.remove(1L);
+        assertEquals(0, index.size());
+        assertTrue(index.findWithin(SEOUL_STATION[0], SEOUL_STATION[1], 5).isEmpty());
+    }
+
+    @Test
+    void findWithin_large_radius_falls_back_to_full_scan() {
+        // given
+        GeoGridIndex index = new GeoGridIndex(0.01);
+        index.put(1L, CITY_HALL[0], CITY_HALL[1]);
+        index.put(2L, BUSAN_STATION[0], BUSAN_STATION[1]);
+
+        // when
+        List<GeoGridIndex.Hit> hits = index.findWithin(SEOUL_STATION[0], SEOUL_STATION[1], 500);
+
+        // then
+        assertEquals(List.of(1L, 2L), hits.stream().map(GeoGridIndex.Hit::id).toList());
+    }
+}
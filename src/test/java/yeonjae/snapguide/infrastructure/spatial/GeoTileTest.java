@@ -0,0 +1,55 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoTileTest {
+
+    // 서울역, 부산역
+    private static final double[] SEOUL_STATION = {37.5547, 126.9707};
+    private static final double[] BUSAN_STATION = {35.1151, 129.0422};
+
+    @Test
+    void tilesWithin_contains_own_tile_and_excludes_far_tiles() {
+        // given
+        double size = 0.01;
+
+        // when
+        List<GeoTile> tiles = GeoTile.tilesWithin(SEOUL_STATION[0], SEOUL_STATION[1], 5, size, 20000);
+
+        // then
+        assertNotNull(tiles);
+        assertTrue(tiles.contains(GeoTile.of(SEOUL_STATION[0], SEOUL_STATION[1], size)));
+        assertFalse(tiles.contains(GeoTile.of(BUSAN_STATION[0], BUSAN_STATION[1], size)));
+        for (GeoTile tile : tiles) {
+            assertTrue(tile.distanceKmTo(SEOUL_STATION[0], SEOUL_STATION[1], size) <= 5.05);
+        }
+    }
+
+    @Test
+    void tilesWithin_covers_every_search_center_that_can_reach_the_point() {
+        // given: 서울역에서 약 4.9km 떨어진 검색 중심 (반경 5km 검색 결과에 서울역 포함)
+        double size = 0.01;
+        double centerLat = SEOUL_STATION[0] + 0.044;
+        double centerLng = SEOUL_STATION[1];
+
+        // when
+        List<GeoTile> tiles = GeoTile.tilesWithin(SEOUL_STATION[0], SEOUL_STATION[1], 5, size, 20000);
+
+        // then
+        assertNotNull(tiles);
+        assertTrue(tiles.contains(GeoTile.of(centerLat, centerLng, size)));
+    }
+
+    @Test
+    void tilesWithin_returns_null_when_over_limit() {
+        // when
+        List<GeoTile> tiles = GeoTile.tilesWithin(SEOUL_STATION[0], SEOUL_STATION[1], 50, 0.01, 100);
+
+        // then
+        assertNull(tiles);
+    }
+}
@@ -0,0 +1,63 @@
+package yeonjae.snapguide.infrastructure.spatial;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OfflinePoiIndexTest {
+
+    private OfflinePoiIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new OfflinePoiIndex(new ObjectMapper());
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "cellSizeDegrees", 0.05);
+        index.load(
+                List.of(
+                        OfflinePoiIndex.Poi.fromKoreanAddress("경복궁", "서울특별시 종로구 사직로 161", OfflinePoiIndex.TOUR_SPOT_PROVIDER),
+                        new OfflinePoiIndex.Poi("Gwanghwamun Plaza", null, null, null, null, OfflinePoiIndex.KAGGLE_PROVIDER)
+                ),
+                List.of(new double[]{37.5796, 126.9770}, new double[]{37.5720, 126.9769})
+        );
+    }
+
+    @Test
+    void fromKoreanAddress_splits_administrative_regions() {
+        OfflinePoiIndex.Poi city = OfflinePoiIndex.Poi.fromKoreanAddress("a", "경기도 수원시 팔달구 정조로 825", "p");
+        OfflinePoiIndex.Poi county = OfflinePoiIndex.Poi.fromKoreanAddress("b", "전라남도 곡성군 옥과면 미술관로 288", "p");
+
+        assertEquals("경기도", city.region());
+        assertEquals("수원시", city.city());
+        assertEquals("팔달구", city.subRegion());
+        assertEquals("전라남도", county.region());
+        assertNull(county.city());
+        assertEquals("곡성군", county.subRegion());
+    }
+
+    @Test
+    void nearestPoi_returns_closest_within_radius() {
+        // when: 광화문 광장 바로 옆
+        OfflinePoiIndex.Match match = index.nearestPoi(37.5721, 126.9770, 0.3).orElseThrow();
+
+        // then
+        assertEquals("Gwanghwamun Plaza", match.poi().name());
+        assertTrue(match.distanceKm() < 0.05);
+        assertTrue(index.nearestPoi(37.5500, 126.9770, 0.3).isEmpty());
+    }
+
+    @Test
+    void nearestRegion_skips_pois_without_address() {
+        // when: Kaggle POI가 더 가깝지만 행정구역이 없음
+        OfflinePoiIndex.Match match = index.nearestRegion(37.5721, 126.9770, 10).orElseThrow();
+
+        // then
+        assertEquals("서울특별시", match.poi().region());
+        assertEquals("종로구", match.poi().subRegion());
+    }
+}
@@ -0,0 +1,98 @@
+package yeonjae.snapguide.security.authentication.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import yeonjae.snapguide.exception.CustomException;
+import yeonjae.snapguide.exception.ErrorCode;
+import yeonjae.snapguide.service.TokenVersionService;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("snapguide-test-secret-key-0123456789abcdef".getBytes());
+
+    private TokenVersionService tokenVersionService;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = mock(TokenVersionService.class);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 100, tokenVersionService);
+        ReflectionTestUtils.setField(jwtTokenProvider, "expAccess", 60_000L);
+    }
+
+    @Test
+    void repeated_verification_reuses_cached_authentication() {
+        // given
+        String token = jwtTokenProvider
+                .createAccessToken(List.of(new SimpleGrantedAuthority("MEMBER")), "test@example.com")
+                .getAccessToken();
+
+        // when
+        assertTrue(jwtTokenProvider.validateToken(token));
+        Authentication first = jwtTokenProvider.getAuthentication(token);
+        Authentication second = jwtTokenProvider.getAuthentication(token);
+
+        // then: 같은 토큰은 한 번만 파싱
+        assertSame(first, second);
+        assertEquals("test@example.com", first.getName());
+        assertEquals("MEMBER", first.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void expired_token_is_rejected() {
+        // given: 이미 만료된 토큰
+        ReflectionTestUtils.setField(jwtTokenProvider, "expAccess", -1_000L);
+        String token = jwtTokenProvider
+                .createAccessToken(List.of(new SimpleGrantedAuthority("MEMBER")), "test@example.com")
+                .getAccessToken();
+
+        // when
+        CustomException e = assertThrows(CustomException.class, () -> jwtTokenProvider.validateToken(token));
+
+        // then
+        assertEquals(ErrorCode.EXPIRED_TOKEN, e.getErrorCode());
+    }
+
+    @Test
+    void token_from_older_version_is_rejected_even_when_cached() {
+        // given: version 0으로 발급 후 한 번 검증되어 캐시된 토큰
+        String token = jwtTokenProvider
+                .createAccessToken(List.of(new SimpleGrantedAuthority("MEMBER")), "test@example.com")
+                .getAccessToken();
+        jwtTokenProvider.getAuthentication(token);
+
+        // when: 로그아웃 등으로 version이 올라감
+        when(tokenVersionService.isRevoked("test@example.com", 0L)).thenReturn(true);
+
+        // then
+        CustomException e = assertThrows(CustomException.class, () -> jwtTokenProvider.getAuthentication(token));
+        assertEquals(ErrorCode.INVALID_TOKEN, e.getErrorCode());
+    }
+
+    @Test
+    void issued_token_uses_version_read_from_redis() {
+        // given: 다른 인스턴스에서 로그아웃해서 Redis version이 3 (로컬 캐시는 아직 0일 수 있음)
+        when(tokenVersionService.issueVersion("test@example.com")).thenReturn(3L);
+
+        // when
+        String token = jwtTokenProvider
+                .createAccessToken(List.of(new SimpleGrantedAuthority("MEMBER")), "test@example.com")
+                .getAccessToken();
+        jwtTokenProvider.getAuthentication(token);
+
+        // then: 새 version으로 발급되고, 발급 시 로컬 캐시 값은 쓰지 않음
+        verify(tokenVersionService).isRevoked("test@example.com", 3L);
+        verify(tokenVersionService, never()).currentVersion(anyString());
+    }
+}
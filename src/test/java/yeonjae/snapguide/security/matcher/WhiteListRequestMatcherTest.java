@@ -0,0 +1,71 @@
+package yeonjae.snapguide.security.matcher;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import yeonjae.snapguide.security.constant.SecurityConstants;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WhiteListRequestMatcherTest {
+
+    private static final List<String> PATHS = List.of(
+            "/", "/login", "/login/", "/index.html", "/api/auth/login", "/api/auth/logout",
+            "/uploads", "/uploads/2024/a.jpg", "/media/1/thumb", "/actuator/prometheus",
+            "/swagger-ui/index.html", "/swagger-ui.html", "/v3/api-docs", "/oauth2/authorization/google",
+            "/api/guides", "/api/guides/1", "/api/user/members/check", "/api/user/members/1",
+            "/.well-known/appspecific/com.chrome.devtools.json", "/favicon.ico", "/error", "/errors");
+
+    @Test
+    void matches_same_requests_as_ant_path_matchers() {
+        // given
+        List<String> whiteList = SecurityConstants.AuthenticationWhiteList.getAllPatterns();
+        WhiteListRequestMatcher matcher = new WhiteListRequestMatcher(whiteList);
+        RequestMatcher expected = new OrRequestMatcher(whiteList.stream()
+                .map(pattern -> (RequestMatcher) new AntPathRequestMatcher(pattern))
+                .toList());
+
+        for (String path : PATHS) {
+            // when
+            boolean requiresAuth = matcher.matches(request(path));
+
+            // then: 기존 OrRequestMatcher 결과의 반대
+            assertEquals(!expected.matches(request(path)), requiresAuth, path);
+        }
+    }
+
+    @Test
+    void unsupported_patterns_fall_back_to_ant_path_matching() {
+        // given
+        WhiteListRequestMatcher matcher = new WhiteListRequestMatcher(List.of("/api/guides/{id}/public", "/files/**/raw"));
+
+        // when & then
+        assertFalse(matcher.matches(request("/api/guides/1/public")));
+        assertFalse(matcher.matches(request("/files/a/b/raw")));
+        assertTrue(matcher.matches(request("/api/guides/1")));
+    }
+
+    @Test
+    void forwarded_request_is_matched_against_the_new_path() {
+        // given
+        WhiteListRequestMatcher matcher = new WhiteListRequestMatcher(List.of("/login"));
+        MockHttpServletRequest request = request("/login");
+        assertFalse(matcher.matches(request));
+
+        // when: 같은 요청이 보호된 경로로 forward/error 디스패치됨
+        request.setServletPath("/api/guides");
+
+        // then: 첫 결과를 재사용하지 않고 인증 필요로 판단
+        assertTrue(matcher.matches(request));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
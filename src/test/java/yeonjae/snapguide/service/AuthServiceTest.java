@@ -9,6 +9,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import yeonjae.snapguide.domain.member.dto.MemberRequestDto;
+import yeonjae.snapguide.exception.CustomException;
 import yeonjae.snapguide.infrastructure.cache.redis.RedisRefreshToken;
 import yeonjae.snapguide.repository.RedisRefreshTokenRepository;
 import yeonjae.snapguide.repository.memberRepository.MemberRepository;
@@ -17,6 +18,7 @@ import yeonjae.snapguide.security.authentication.jwt.JwtTokenProvider;
 import yeonjae.snapguide.security.authentication.jwt.TokenRequestDto;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 @SpringBootTest
@@ -97,7 +99,9 @@ class AuthServiceTest {
         authService.logout(dto);
 
         assertThat(redisRefreshTokenRepository.findByKey(email)).isEmpty();
-        // 블랙리스트 등록은 외부 Redis 확인 필요. 테스트 환경에서는 assert 불가
+        // 토큰 version이 올라가서 기존 AccessToken은 거부됨
+        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(token.getAccessToken()))
+                .isInstanceOf(CustomException.class);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package yeonjae.snapguide.service.fileStorageService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.domain.media.DerivativeJob;
+import yeonjae.snapguide.domain.media.DerivativeJobStatus;
+import yeonjae.snapguide.repository.mediaRepository.DerivativeJobRepository;
+import yeonjae.snapguide.repository.mediaRepository.MediaRepository;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DerivativeJobServiceTest {
+
+    private DerivativeJobRepository derivativeJobRepository;
+    private MediaRepository mediaRepository;
+    private AsyncFileProcessingService asyncFileProcessingService;
+    private DerivativeJobService derivativeJobService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        derivativeJobRepository = mock(DerivativeJobRepository.class);
+        mediaRepository = mock(MediaRepository.class);
+        asyncFileProcessingService = mock(AsyncFileProcessingService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        when(mediaRepository.existsById(anyLong())).thenReturn(true);
+        when(asyncFileProcessingService.fetchOriginal(anyString())).thenReturn(Path.of("/tmp/original.jpg"));
+
+        // 작업자 스레드 대신 호출 스레드에서 바로 실행
+        derivativeJobService = new DerivativeJobService(derivativeJobRepository, mediaRepository,
+                asyncFileProcessingService, mock(UploadSpillStore.class), transactionTemplate, Runnable::run);
+        ReflectionTestUtils.setField(derivativeJobService, "batchSize", 8);
+        ReflectionTestUtils.setField(derivativeJobService, "maxInFlight", 16);
+        ReflectionTestUtils.setField(derivativeJobService, "leaseSeconds", 600L);
+        ReflectionTestUtils.setField(derivativeJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(derivativeJobService, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(derivativeJobService, "backoffMaxSeconds", 100L);
+        ReflectionTestUtils.setField(derivativeJobService, "sweepBatchSize", 100);
+    }
+
+    @Test
+    void successful_job_is_leased_then_deleted() throws Exception {
+        // given
+        DerivativeJob job = job(1L, 0);
+        when(derivativeJobRepository.lockDueJobs(any(), eq(8))).thenReturn(List.of(job));
+
+        // when
+        derivativeJobService.poll();
+
+        // then
+        assertEquals(DerivativeJobStatus.RUNNING, job.getStatus());
+        assertEquals(1, job.getAttempts());
+        assertTrue(job.getNextRunAt().isAfter(LocalDateTime.now().plusSeconds(590)));
+        verify(asyncFileProcessingService).generateDerivatives(eq(10L), eq("base"), any());
+        verify(derivativeJobRepository).deleteById(1L);
+    }
+
+    @Test
+    void failed_job_is_retried_with_capped_exponential_backoff() throws Exception {
+        // given: 두 번째 시도 실패 → 30s << 1 = 60s 뒤 재시도
+        DerivativeJob job = job(1L, 1);
+        when(derivativeJobRepository.lockDueJobs(any(), anyInt())).thenReturn(List.of(job));
+        when(derivativeJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        doThrow(new IllegalStateException("decode failed"))
+                .when(asyncFileProcessingService).generateDerivatives(anyLong(), anyString(), any());
+
+        // when
+        derivativeJobService.poll();
+
+        // then
+        assertEquals(DerivativeJobStatus.PENDING, job.getStatus());
+        assertEquals(2, job.getAttempts());
+        LocalDateTime nextRunAt = job.getNextRunAt();
+        assertTrue(nextRunAt.isAfter(LocalDateTime.now().plusSeconds(55)));
+        assertTrue(nextRunAt.isBefore(LocalDateTime.now().plusSeconds(65)));
+        assertEquals("IllegalStateException: decode failed", job.getLastError());
+        verify(derivativeJobRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void error_on_last_attempt_marks_job_failed() throws Exception {
+        // given: Exception이 아닌 Error도 실패로 기록
+        DerivativeJob job = job(1L, 2);
+        when(derivativeJobRepository.lockDueJobs(any(), anyInt())).thenReturn(List.of(job));
+        when(derivativeJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        doThrow(new OutOfMemoryError("Java heap space"))
+                .when(asyncFileProcessingService).generateDerivatives(anyLong(), anyString(), any());
+
+        // when
+        derivativeJobService.poll();
+
+        // then
+        assertEquals(DerivativeJobStatus.FAILED, job.getStatus());
+        assertEquals(3, job.getAttempts());
+        assertEquals("OutOfMemoryError: Java heap space", job.getLastError());
+    }
+
+    @Test
+    void expired_lease_after_max_attempts_is_failed_instead_of_reclaimed() throws Exception {
+        // given: 마지막 시도 중 인스턴스가 종료되어 RUNNING으로 남은 작업
+        DerivativeJob job = job(1L, 3);
+        when(derivativeJobRepository.lockDueJobs(any(), anyInt())).thenReturn(List.of(job));
+
+        // when
+        derivativeJobService.poll();
+
+        // then
+        assertEquals(DerivativeJobStatus.FAILED, job.getStatus());
+        assertEquals(3, job.getAttempts());
+        verify(asyncFileProcessingService, never()).generateDerivatives(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void sweep_enqueues_media_without_derivatives() {
+        // when
+        derivativeJobService.sweepMissingDerivatives();
+
+        // then
+        verify(derivativeJobRepository).enqueueMissingDerivatives(100);
+    }
+
+    /**
+     * attempts번 가져간 뒤 임대가 만료된 작업
+     */
+    private static DerivativeJob job(Long id, int attempts) {
+        DerivativeJob job = new DerivativeJob(10L, "base", "originals/base.jpg", null);
+        ReflectionTestUtils.setField(job, "id", id);
+        for (int i = 0; i < attempts; i++) {
+            job.claim(LocalDateTime.now().minusSeconds(1));
+        }
+        return job;
+    }
+}
@@ -0,0 +1,63 @@
+package yeonjae.snapguide.service.fileStorageService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadSpillStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void spill_writes_upload_to_disk_and_release_deletes_it() throws Exception {
+        // given
+        UploadSpillStore store = new UploadSpillStore(tempDir.resolve("spill").toString(), 360);
+        MockMultipartFile file = new MockMultipartFile("files", "a.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        // when
+        Path spilled = store.spill(file, "jpg");
+
+        // then
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(spilled));
+        store.release(spilled);
+        assertFalse(Files.exists(spilled));
+    }
+
+    @Test
+    void release_ignores_files_outside_spill_dir() throws Exception {
+        // given: 로컬 저장소 원본처럼 spill 디렉토리 밖의 파일
+        UploadSpillStore store = new UploadSpillStore(tempDir.resolve("spill").toString(), 360);
+        Path original = Files.write(tempDir.resolve("original.jpg"), new byte[]{1});
+
+        // when
+        store.release(original);
+
+        // then
+        assertTrue(Files.exists(original));
+    }
+
+    @Test
+    void sweep_removes_only_stale_files() throws Exception {
+        // given
+        UploadSpillStore store = new UploadSpillStore(tempDir.resolve("spill").toString(), 60);
+        Path stale = store.spill(new byte[]{1}, "jpg");
+        Path fresh = store.spill(new byte[]{2}, "jpg");
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+
+        // when
+        store.sweep();
+
+        // then
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(fresh));
+    }
+}
@@ -0,0 +1,60 @@
+package yeonjae.snapguide.service.fileStorageService.fileConverter;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImagePyramidTest {
+
+    @Test
+    void downscale_produces_every_size_from_one_raster_without_upscaling() {
+        // given: 4000x3000 원본
+        BufferedImage full = new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        List<ImagePyramid.Variant> variants = ImagePyramid.downscale(full, List.of(320, 1080, 720, 5000));
+
+        // then: 큰 크기부터, 긴 변 기준, 원본보다 큰 크기는 원본 그대로
+        assertEquals(List.of(5000, 1080, 720, 320), variants.stream().map(ImagePyramid.Variant::size).toList());
+        assertSame(full, variants.get(0).image());
+        assertEquals(1080, variants.get(1).image().getWidth());
+        assertEquals(810, variants.get(1).image().getHeight());
+        assertEquals(320, variants.get(3).image().getWidth());
+        assertEquals(240, variants.get(3).image().getHeight());
+    }
+
+    @Test
+    void orient_rotates_pixels_for_exif_orientation() {
+        // given: 4x2, 좌상단만 빨간색
+        BufferedImage image = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, 0xFF0000);
+
+        // when: 6 = 시계 방향 90도
+        BufferedImage rotated = ImagePyramid.orient(image, 6);
+
+        // then
+        assertEquals(2, rotated.getWidth());
+        assertEquals(4, rotated.getHeight());
+        assertEquals(0xFF0000, rotated.getRGB(1, 0) & 0xFFFFFF);
+    }
+
+    @Test
+    void decode_subsamples_large_originals_but_keeps_enough_resolution() throws Exception {
+        // given
+        Path source = Path.of("src/test/resources/testImage/test-image1.jpg");
+
+        // when
+        BufferedImage full = ImagePyramid.decode(source, 0);
+        BufferedImage reduced = ImagePyramid.decode(source, 320);
+
+        // then: 필요한 크기의 2배 이상은 유지
+        int fullLongEdge = Math.max(full.getWidth(), full.getHeight());
+        int reducedLongEdge = Math.max(reduced.getWidth(), reduced.getHeight());
+        assertTrue(reducedLongEdge <= fullLongEdge);
+        assertTrue(reducedLongEdge >= Math.min(fullLongEdge, 640));
+    }
+}
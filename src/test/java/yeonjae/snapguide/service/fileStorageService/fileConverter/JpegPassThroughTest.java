@@ -0,0 +1,43 @@
+package yeonjae.snapguide.service.fileStorageService.fileConverter;
+
+import org.junit.jupiter.api.Test;
+import yeonjae.snapguide.domain.media.mediaUtil.exifExtrator.ParsedImageMetadata;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JpegPassThroughTest {
+
+    @Test
+    void stripMetadata_keeps_pixels_and_orientation_but_drops_gps() throws Exception {
+        // given
+        byte[] original = Files.readAllBytes(Path.of("src/test/resources/testImage/test-image1.jpg"));
+
+        // when
+        byte[] stripped = JpegPassThrough.stripMetadata(original, 6);
+
+        // then: 픽셀 데이터는 재인코딩 없이 동일
+        BufferedImage before = ImageIO.read(new ByteArrayInputStream(original));
+        BufferedImage after = ImageIO.read(new ByteArrayInputStream(stripped));
+        assertEquals(before.getWidth(), after.getWidth());
+        assertEquals(before.getHeight(), after.getHeight());
+        assertEquals(before.getRGB(before.getWidth() / 2, before.getHeight() / 2),
+                after.getRGB(after.getWidth() / 2, after.getHeight() / 2));
+
+        // then: 메타데이터는 Orientation만 남음
+        ParsedImageMetadata parsed = ParsedImageMetadata.parse(stripped);
+        assertEquals(6, parsed.orientation());
+        assertTrue(parsed.coordinate().isEmpty());
+    }
+
+    @Test
+    void stripMetadata_rejects_non_jpeg() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JpegPassThrough.stripMetadata(new byte[]{(byte) 0x89, 'P', 'N', 'G'}, 1));
+    }
+}
@@ -0,0 +1,84 @@
+package yeonjae.snapguide.service.guideSerivce;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import yeonjae.snapguide.controller.guideController.guideDto.GuideResponseDto;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedRepository;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedView;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GuideFeedServiceTest {
+
+    private GuideFeedRepository guideFeedRepository;
+    private GuideFeedService guideFeedService;
+
+    @BeforeEach
+    void setUp() {
+        guideFeedRepository = mock(GuideFeedRepository.class);
+        guideFeedService = new GuideFeedService(guideFeedRepository, mock(PlatformTransactionManager.class), true, 10);
+    }
+
+    @Test
+    void rebuild_upserts_in_batches_and_marks_ready() {
+        // given: 2500개 → 1000, 1000, 500
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(guideFeedRepository.findAllGuideIds()).thenReturn(ids);
+        assertFalse(guideFeedService.isReady());
+
+        // when
+        guideFeedService.rebuild();
+
+        // then
+        verify(guideFeedRepository).createSpatialIndex();
+        verify(guideFeedRepository).createGeographySpatialIndex();
+        verify(guideFeedRepository, times(3)).upsertFromSource(anyCollection(), eq(10));
+        verify(guideFeedRepository).deleteOrphans();
+        assertTrue(guideFeedService.isReady());
+    }
+
+    @Test
+    void failed_first_rebuild_keeps_fallback() {
+        // given
+        when(guideFeedRepository.findAllGuideIds()).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        guideFeedService.rebuild();
+
+        // then
+        assertFalse(guideFeedService.isReady());
+    }
+
+    @Test
+    void nearby_rows_are_mapped_with_cursor_and_media() {
+        // given
+        GuideFeedView view = mock(GuideFeedView.class);
+        when(view.getGuideId()).thenReturn(7L);
+        when(view.getTip()).thenReturn("tip");
+        when(view.getAuthorId()).thenReturn(1L);
+        when(view.getAuthorEmail()).thenReturn("test@example.com");
+        when(view.getLocationName()).thenReturn("서울");
+        when(view.getMedia()).thenReturn("[{\"fileName\": \"a.jpg\", \"url\": \"/media/files/a.jpg\"}]");
+        when(view.getLikeCount()).thenReturn(3);
+        when(view.getDistanceKm()).thenReturn(1.5);
+        when(guideFeedRepository.findNearbyAfter(anyDouble(), anyDouble(), anyDouble(), eq(-1.0), eq(0L), eq(21)))
+                .thenReturn(List.of(view));
+
+        // when
+        List<GuideFeedService.Hit> hits = guideFeedService.findNearby(37.5, 127.0, 5, null, 21);
+
+        // then
+        assertEquals(1, hits.size());
+        assertEquals(new NearbyCursor(1.5, 7L), hits.get(0).cursor());
+        GuideResponseDto guide = hits.get(0).guide();
+        assertEquals("test@example.com", guide.getAuthor().getEmail());
+        assertEquals(3, guide.getLikeCount());
+        assertEquals("/media/files/a.jpg", guide.getMedia().get(0).getUrl());
+    }
+}
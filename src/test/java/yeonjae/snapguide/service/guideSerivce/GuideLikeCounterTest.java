@@ -0,0 +1,147 @@
+package yeonjae.snapguide.service.guideSerivce;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import yeonjae.snapguide.repository.guideRepository.GuideFeedRepository;
+import yeonjae.snapguide.repository.guideRepository.GuideRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GuideLikeCounterTest {
+
+    private GuideRepository guideRepository;
+    private GuideFeedRepository guideFeedRepository;
+    private ValueOperations<String, Object> valueOperations;
+    private RedisTemplate<String, Object> redisTemplate;
+    private GuideLikeCounter counter;
+
+    // 모든 인스턴스가 공유하는 guide:like:pending hash 대역
+    private final Map<Object, Long> pendingHash = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        guideRepository = mock(GuideRepository.class);
+        guideFeedRepository = mock(GuideFeedRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(GuideLikeCounter.LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        when(hashOperations.increment(eq(GuideLikeCounter.PENDING_KEY), any(), anyLong()))
+                .thenAnswer(invocation -> pendingHash.merge(invocation.getArgument(1), invocation.<Long>getArgument(2), Long::sum));
+        when(hashOperations.get(eq(GuideLikeCounter.PENDING_KEY), any()))
+                .thenAnswer(invocation -> {
+                    Long value = pendingHash.get(invocation.getArgument(1));
+                    return value == null ? null : value.toString();
+                });
+        when(hashOperations.keys(GuideLikeCounter.PENDING_KEY))
+                .thenAnswer(invocation -> new HashSet<>(pendingHash.keySet()));
+        doAnswer(invocation -> {
+            List<String> entries = new ArrayList<>();
+            pendingHash.forEach((field, value) -> {
+                entries.add(field.toString());
+                entries.add(value.toString());
+            });
+            pendingHash.clear();
+            return entries;
+        }).when(redisTemplate).execute(same(GuideLikeCounter.DRAIN_SCRIPT), anyList());
+
+        counter = new GuideLikeCounter(guideRepository, guideFeedRepository, transactionTemplate, redisTemplate);
+    }
+
+    @Test
+    void concurrent_likes_are_flushed_as_one_update_per_guide() throws InterruptedException {
+        // given: 1000건 좋아요 + 10건 취소
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> counter.add(1L, 1));
+        }
+        for (int i = 0; i < 10; i++) {
+            executor.submit(() -> counter.add(1L, -1));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(990, counter.pendingDelta(1L));
+
+        // when
+        counter.flush();
+
+        // then
+        verify(guideRepository, times(1)).addLikeCount(1L, 990L);
+        verify(guideFeedRepository, times(1)).addLikeCount(1L, 990L);
+        assertEquals(0, counter.pendingDelta(1L));
+    }
+
+    @Test
+    void failed_flush_keeps_delta_for_next_interval() {
+        // given
+        counter.add(1L, 3);
+        when(guideRepository.addLikeCount(1L, 3L)).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        counter.flush();
+
+        // then: hash에 되돌려 놓음
+        assertEquals(3, counter.pendingDelta(1L));
+    }
+
+    @Test
+    void flush_is_skipped_while_another_instance_holds_the_lock() {
+        // given
+        counter.add(1L, 1);
+        when(valueOperations.setIfAbsent(eq(GuideLikeCounter.LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        counter.flush();
+
+        // then
+        verify(guideRepository, never()).addLikeCount(anyLong(), anyLong());
+        assertEquals(1, counter.pendingDelta(1L));
+    }
+
+    @Test
+    void reconcile_covers_all_guides_except_those_with_pending_delta() {
+        // given: 2번 Guide는 flush 실패로 반영 전 변화량이 남아 있음
+        counter.add(2L, 1);
+        when(guideRepository.addLikeCount(2L, 1L)).thenThrow(new IllegalStateException("db down"));
+        when(guideRepository.findAllIds()).thenReturn(List.of(1L, 2L, 3L));
+
+        // when
+        counter.reconcile();
+
+        // then: 변화가 없었던 1, 3번 Guide도 보정 대상 (다른 인스턴스/유실된 변화량까지 정리)
+        verify(guideRepository).reconcileLikeCounts(List.of(1L, 3L));
+        verify(guideFeedRepository).syncLikeCounts(List.of(1L, 3L));
+        verify(redisTemplate, atLeastOnce()).execute(same(GuideLikeCounter.RELEASE_SCRIPT), anyList(), anyString());
+    }
+}